@@ -0,0 +1,73 @@
+package com.liveauction.auction.config;
+
+import com.liveauction.auction.service.AuctionClusterService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Sends reads of a live auction to the node that owns it.
+ * - Applies to GET /api/v1/auctions/{id}/live, /page and /public
+ * - Answers 307 with the owner's URL, so the view is counted and served where the
+ *   auction's live state is kept
+ * - Passes the request through when this node owns the auction, the cluster is
+ *   disabled or the owner's URL is not known
+ */
+@Component
+@RequiredArgsConstructor
+public class AuctionRoutingFilter extends OncePerRequestFilter {
+
+    private static final Pattern ROUTED_PATH =
+            Pattern.compile("^/api/v1/auctions/([0-9a-fA-F-]{36})/(live|page|public)$");
+
+    private final AuctionClusterService clusterService;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        Matcher matcher = ROUTED_PATH.matcher(request.getRequestURI());
+        if (!HttpMethod.GET.matches(request.getMethod()) || !matcher.matches()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        UUID auctionId;
+        try {
+            auctionId = UUID.fromString(matcher.group(1));
+        } catch (IllegalArgumentException e) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Optional<String> ownerUrl = clusterService.ownerUrl(auctionId);
+        if (ownerUrl.isEmpty()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String location = ownerUrl.get().replaceAll("/+$", "") + request.getRequestURI()
+                + (request.getQueryString() != null ? "?" + request.getQueryString() : "");
+        meterRegistry.counter("auction.routing.redirects", "route", matcher.group(2)).increment();
+        response.setStatus(HttpStatus.TEMPORARY_REDIRECT.value());
+        response.setHeader(HttpHeaders.LOCATION, location);
+    }
+}
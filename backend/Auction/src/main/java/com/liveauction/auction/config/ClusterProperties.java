@@ -0,0 +1,23 @@
+package com.liveauction.auction.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Membership of this node in the Auction cluster, e.g.
+ * app.cluster.enabled=true
+ * app.cluster.node-id=auction-1
+ * app.cluster.advertised-url=http://auction-1:8082
+ * Live auctions are spread over the nodes whose heartbeat is younger than node-ttl.
+ */
+@ConfigurationProperties("app.cluster")
+public record ClusterProperties(
+        boolean enabled,
+        String nodeId,
+        String advertisedUrl,
+        Duration heartbeatInterval,
+        Duration nodeTtl,
+        int virtualNodes
+) {
+}
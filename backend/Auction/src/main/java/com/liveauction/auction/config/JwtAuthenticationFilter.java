@@ -1,12 +1,15 @@
 package com.liveauction.auction.config;
 
 import com.liveauction.auction.service.JwtService;
+import com.liveauction.shared.jfr.JwtVerificationEvent;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -23,7 +26,11 @@ import java.util.UUID;
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    /** Authenticated user id, carried as a structured field on every log line of the request */
+    static final String MDC_USER_ID = "userId";
+
     private final JwtService jwtService;
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(
@@ -39,9 +46,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
+        JwtVerificationEvent jfrEvent = new JwtVerificationEvent();
+        jfrEvent.begin();
         try {
             final String jwt = authHeader.substring(7);
             final UUID userId = jwtService.extractUserId(jwt);
+            jfrEvent.userId = String.valueOf(userId);
             final List<String> roles = jwtService.extractRoles(jwt);
 
             if (userId != null && SecurityContextHolder.getContext().getAuthentication() == null) {
@@ -56,11 +66,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 );
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
+                meterRegistry.counter("jwt.authentication", "result", "success", "reason", "none").increment();
+                jfrEvent.success = true;
+                MDC.put(MDC_USER_ID, String.valueOf(userId));
             }
         } catch (Exception e) {
+            meterRegistry.counter("jwt.authentication", "result", "failure", "reason", e.getClass().getSimpleName()).increment();
             log.error("Cannot set user authentication: {}", e.getMessage());
+        } finally {
+            jfrEvent.commit();
         }
 
-        filterChain.doFilter(request, response);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_USER_ID);
+        }
     }
 }
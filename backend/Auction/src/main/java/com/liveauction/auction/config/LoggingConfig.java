@@ -0,0 +1,22 @@
+package com.liveauction.auction.config;
+
+import com.liveauction.shared.logging.CountingAsyncAppender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Metrics for the asynchronous logging pipeline configured in logback-spring.xml
+ */
+@Configuration
+public class LoggingConfig {
+
+    @Bean
+    public MeterBinder droppedLogEventsMetrics() {
+        return registry -> FunctionCounter.builder("logging.events.dropped", CountingAsyncAppender.class,
+                        appender -> CountingAsyncAppender.droppedEvents())
+                .description("Log events discarded or rejected by the async appender")
+                .register(registry);
+    }
+}
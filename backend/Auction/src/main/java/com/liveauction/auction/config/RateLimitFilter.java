@@ -0,0 +1,113 @@
+package com.liveauction.auction.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.liveauction.shared.dto.response.ApiResponse;
+import com.liveauction.shared.ratelimit.TokenBucketLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-user rate limiting for write endpoints.
+ * - Runs after JwtAuthenticationFilter and keys buckets by the UUID principal
+ * - Routes and limits come from app.rate-limit.routes
+ * - Limited requests get 429 with Retry-After and never reach the controller or JPA
+ * - Anonymous requests pass through, security rejects them anyway
+ */
+@Component
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final List<LimitedRoute> routes;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitFilter(RateLimitProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.routes = !properties.enabled() ? List.of() : properties.routes().entrySet().stream()
+                .map(entry -> new LimitedRoute(
+                        entry.getKey(),
+                        entry.getValue(),
+                        PathPatternParser.defaultInstance.parse(entry.getValue().path()),
+                        new TokenBucketLimiter<>(entry.getValue().capacity(), entry.getValue().refillPeriod())
+                ))
+                .toList();
+        log.info("Rate limiting {} route(s)", routes.size());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        LimitedRoute route = match(request);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (route == null || authentication == null || !(authentication.getPrincipal() instanceof UUID userId)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long waitNanos = route.limiter().tryAcquire(userId);
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        meterRegistry.counter("rate.limit.rejected", "route", route.name()).increment();
+        log.debug("Rate limited user {} on {}, retry after {}s", userId, route.name(), retryAfterSeconds);
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error("Too many requests, retry in " + retryAfterSeconds + "s"));
+    }
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.evict-interval:PT1M}")
+    public void evictIdleBuckets() {
+        routes.forEach(route -> route.limiter().evictIdle());
+    }
+
+    private LimitedRoute match(HttpServletRequest request) {
+        if (routes.isEmpty()) {
+            return null;
+        }
+        PathContainer path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+        for (LimitedRoute route : routes) {
+            if ((route.config().method() == null || route.config().method().matches(request.getMethod()))
+                    && route.pattern().matches(path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    private record LimitedRoute(
+            String name,
+            RateLimitProperties.Route config,
+            PathPattern pattern,
+            TokenBucketLimiter<UUID> limiter
+    ) {}
+}
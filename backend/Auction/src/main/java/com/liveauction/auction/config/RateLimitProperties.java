@@ -0,0 +1,31 @@
+package com.liveauction.auction.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.HttpMethod;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Per-route limits for {@link RateLimitFilter}, e.g.
+ * app.rate-limit.routes.claim.method=POST
+ * app.rate-limit.routes.claim.path=/api/v1/auctions/claim
+ * app.rate-limit.routes.claim.capacity=5
+ * app.rate-limit.routes.claim.refill-period=10s
+ */
+@ConfigurationProperties("app.rate-limit")
+public record RateLimitProperties(
+        boolean enabled,
+        Map<String, Route> routes
+) {
+    public RateLimitProperties {
+        routes = routes == null ? Map.of() : routes;
+    }
+
+    public record Route(
+            HttpMethod method,
+            String path,
+            int capacity,
+            Duration refillPeriod
+    ) {}
+}
@@ -0,0 +1,27 @@
+package com.liveauction.auction.config;
+
+import com.liveauction.auction.repository.AuctionRepository;
+import com.liveauction.auction.repository.ItemClaimRepository;
+import com.liveauction.shared.jfr.RepositoryCallRecorder;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Flight Recorder events for repository calls.
+ */
+@Aspect
+@Component
+public class RepositoryJfrAspect {
+
+    @Around("this(com.liveauction.auction.repository.AuctionRepository)")
+    public Object auctionRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return RepositoryCallRecorder.record(joinPoint, AuctionRepository.class.getSimpleName(), RepositoryCallRecorder.AUCTION);
+    }
+
+    @Around("this(com.liveauction.auction.repository.ItemClaimRepository)")
+    public Object itemClaimRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return RepositoryCallRecorder.record(joinPoint, ItemClaimRepository.class.getSimpleName(), null);
+    }
+}
@@ -1,6 +1,7 @@
 package com.liveauction.auction.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.Customizer;
@@ -17,10 +18,13 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
+@EnableConfigurationProperties({RateLimitProperties.class, ClusterProperties.class})
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthFilter;
+    private final RateLimitFilter rateLimitFilter;
+    private final AuctionRoutingFilter auctionRoutingFilter;
 
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
@@ -30,6 +34,12 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         // Public endpoints
                         .requestMatchers("/api/v1/auctions/*/public").permitAll()
+                        .requestMatchers("/api/v1/auctions/*/page").permitAll()
+                        .requestMatchers("/api/v1/auctions/*/live").permitAll()
+                        .requestMatchers("/api/v1/auctions/*/bid-history").permitAll()
+                        .requestMatchers("/api/v1/auctions/trending").permitAll()
+                        // Only reachable on management.server.port
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                         .requestMatchers("/api/v1/auctions/by-status/*").permitAll()
                         // All other endpoints require authentication
                         .anyRequest().authenticated()
@@ -37,7 +47,9 @@ public class SecurityConfig {
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
                 )
-                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(auctionRoutingFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -53,6 +65,7 @@ public class SecurityConfig {
                             .allowedOrigins("http://localhost:5173")
                             .allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH")
                             .allowedHeaders("*")
+                            .exposedHeaders("Retry-After", "Idempotent-Replayed")
                             .allowCredentials(true);
                 }
             };
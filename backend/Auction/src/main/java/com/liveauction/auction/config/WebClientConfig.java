@@ -0,0 +1,26 @@
+package com.liveauction.auction.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClient;
+
+@Configuration
+public class WebClientConfig {
+
+    @Bean
+    public WebClient itemServiceClient(
+            WebClient.Builder builder,
+            @Value("${app.services.item.base-url}") String baseUrl
+    ) {
+        return builder.clone().baseUrl(baseUrl).build();
+    }
+
+    @Bean
+    public WebClient userServiceClient(
+            WebClient.Builder builder,
+            @Value("${app.services.user.base-url}") String baseUrl
+    ) {
+        return builder.clone().baseUrl(baseUrl).build();
+    }
+}
@@ -0,0 +1,36 @@
+package com.liveauction.auction.controller;
+
+import com.liveauction.auction.dto.response.AuctionResultsResponse;
+import com.liveauction.auction.service.AuctionAnalyticsService;
+import com.liveauction.shared.dto.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/v1/auctions/analytics")
+@RequiredArgsConstructor
+public class AuctionAnalyticsController {
+
+    private final AuctionAnalyticsService auctionAnalyticsService;
+
+    /**
+     * GET /api/v1/auctions/analytics/results?category=&condition=&from=&to=
+     * Sell-through, hammer over starting price and reserve-met rate of auctions
+     * that ended in [from, to] (UTC days)
+     */
+    @GetMapping("/results")
+    public ResponseEntity<ApiResponse<AuctionResultsResponse>> getResults(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String condition,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        AuctionResultsResponse response = auctionAnalyticsService.query(category, condition, from, to);
+        ApiResponse<AuctionResultsResponse> apiResponse = new ApiResponse<>(true, "Auction results retrieved successfully", response);
+        return ResponseEntity.ok(apiResponse);
+    }
+}
@@ -1,19 +1,31 @@
 package com.liveauction.auction.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.liveauction.auction.dto.request.ClaimItemRequest;
 import com.liveauction.auction.dto.request.CreateAuctionRequest;
 import com.liveauction.auction.dto.request.ReviewClaimRequest;
 import com.liveauction.auction.dto.request.UpdateAuctionRequest;
 import com.liveauction.auction.dto.response.*;
 import com.liveauction.auction.entity.AuctionEntity;
+import com.liveauction.auction.service.AuctionPageService;
 import com.liveauction.auction.service.AuctionService;
+import com.liveauction.auction.service.BidHistoryService;
+import com.liveauction.auction.service.IdempotencyService;
+import com.liveauction.auction.service.LiveAuctionRegistry;
+import com.liveauction.auction.service.TrendingService;
 import com.liveauction.shared.dto.response.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Duration;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -24,14 +36,23 @@ import java.util.UUID;
 public class AuctionController {
     
     private final AuctionService auctionService;
+    private final AuctionPageService auctionPageService;
+    private final IdempotencyService idempotencyService;
+    private final BidHistoryService bidHistoryService;
+    private final TrendingService trendingService;
+    private final LiveAuctionRegistry liveAuctionRegistry;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/claim")
     public ResponseEntity<ApiResponse<ClaimResponse>> claimItem(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @Valid @RequestBody ClaimItemRequest request
     ) {
-        ClaimResponse response = auctionService.claimItem(request);
-        ApiResponse<ClaimResponse> apiResponse = new ApiResponse<>(true, "Item claim submitted successfully", response);
-        return new ResponseEntity<>(apiResponse, HttpStatus.CREATED);
+        return idempotencyService.execute(idempotencyKey, "POST /claim", request, ClaimResponse.class, () -> {
+            ClaimResponse response = auctionService.claimItem(request);
+            ApiResponse<ClaimResponse> apiResponse = new ApiResponse<>(true, "Item claim submitted successfully", response);
+            return new ResponseEntity<>(apiResponse, HttpStatus.CREATED);
+        });
     }
 
     @GetMapping("/claims/item/{itemId}")
@@ -63,12 +84,15 @@ public class AuctionController {
 
     @PostMapping("/claims/{claimId}/create-auction")
     public ResponseEntity<ApiResponse<AuctionResponse>> createAuction(
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             @PathVariable UUID claimId,
             @Valid @RequestBody CreateAuctionRequest request
     ) {
-        AuctionResponse response = auctionService.createAuction(claimId, request);
-        ApiResponse<AuctionResponse> apiResponse = new ApiResponse<>(true, "Auction created successfully", response);
-        return new ResponseEntity<>(apiResponse, HttpStatus.CREATED);
+        return idempotencyService.execute(idempotencyKey, "POST /claims/" + claimId + "/create-auction", request, AuctionResponse.class, () -> {
+            AuctionResponse response = auctionService.createAuction(claimId, request);
+            ApiResponse<AuctionResponse> apiResponse = new ApiResponse<>(true, "Auction created successfully", response);
+            return new ResponseEntity<>(apiResponse, HttpStatus.CREATED);
+        });
     }
 
     @PutMapping("/{auctionId}")
@@ -98,6 +122,13 @@ public class AuctionController {
         return ResponseEntity.ok(apiResponse);
     }
 
+    @GetMapping("/history/me")
+    public ResponseEntity<ApiResponse<List<AuctionResponse>>> listMyArchivedAuctions() {
+        List<AuctionResponse> response = auctionService.listMyArchivedAuctions();
+        ApiResponse<List<AuctionResponse>> apiResponse = new ApiResponse<>(true, "Auction history retrieved successfully", response);
+        return ResponseEntity.ok(apiResponse);
+    }
+
     @GetMapping("/{auctionId}")
     public ResponseEntity<ApiResponse<AuctionResponse>> getAuctionDetails(
             @PathVariable UUID auctionId
@@ -112,15 +143,83 @@ public class AuctionController {
             @PathVariable UUID auctionId
     ) {
         AuctionResponsePublic response = auctionService.getPublicAuctionDetails(auctionId);
+        // After the read-only transaction: a view is a write and takes its own connection
+        if (AuctionEntity.AuctionStatus.ONGOING.name().equals(response.status())) {
+            trendingService.recordView(auctionId);
+            liveAuctionRegistry.recordView(auctionId);
+        }
         ApiResponse<AuctionResponsePublic> apiResponse = new ApiResponse<>(true, "Public auction details retrieved successfully", response);
         return ResponseEntity.ok(apiResponse);
     }
 
+    @GetMapping("/{auctionId}/page")
+    public ResponseEntity<ApiResponse<AuctionPageResponse>> getAuctionPage(
+            @PathVariable UUID auctionId
+    ) {
+        AuctionPageResponse response = auctionPageService.getAuctionPage(auctionId);
+        ApiResponse<AuctionPageResponse> apiResponse = new ApiResponse<>(true, "Auction page retrieved successfully", response);
+        return ResponseEntity.ok(apiResponse);
+    }
+
+    /**
+     * Live state of an ONGOING auction from the node that owns it.
+     * Requests reaching another node are redirected by AuctionRoutingFilter.
+     */
+    @GetMapping("/{auctionId}/live")
+    public ResponseEntity<ApiResponse<LiveAuctionResponse>> getLiveAuction(
+            @PathVariable UUID auctionId
+    ) {
+        LiveAuctionResponse response = liveAuctionRegistry.get(auctionId);
+        ApiResponse<LiveAuctionResponse> apiResponse = new ApiResponse<>(true, "Live auction retrieved successfully", response);
+        return ResponseEntity.ok(apiResponse);
+    }
+
+    /**
+     * Bid history of a closed auction, written out while the stored chunk is decoded
+     * so the response never holds the whole history as objects.
+     */
+    @GetMapping("/{auctionId}/bid-history")
+    public ResponseEntity<StreamingResponseBody> getBidHistory(
+            @PathVariable UUID auctionId
+    ) {
+        Iterator<BidHistoryEntryResponse> bids = bidHistoryService.openHistory(auctionId);
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+                generator.writeStartObject();
+                generator.writeBooleanField("success", true);
+                generator.writeStringField("message", "Bid history retrieved successfully");
+                generator.writeArrayFieldStart("data");
+                while (bids.hasNext()) {
+                    generator.writeObject(bids.next());
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    /**
+     * Hottest ONGOING auctions by decayed bid and view rate.
+     * The list is rebuilt every second in the background, a request only reads it.
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<ApiResponse<List<TrendingAuctionResponse>>> getTrending() {
+        List<TrendingAuctionResponse> response = trendingService.getTrending();
+        ApiResponse<List<TrendingAuctionResponse>> apiResponse = new ApiResponse<>(true, "Trending auctions retrieved successfully", response);
+        return ResponseEntity.ok().cacheControl(CacheControl.maxAge(Duration.ofSeconds(1)).cachePublic()).body(apiResponse);
+    }
+
     @GetMapping("/by-status/{status}")
     public ResponseEntity<ApiResponse<List<AuctionResponsePublic>>> listAuctionsByStatus(
-            @PathVariable String status
+            @PathVariable String status,
+            @RequestParam(required = false) UUID after,
+            @RequestParam(required = false) Integer limit
     ) {
-        List<AuctionResponsePublic> response = auctionService.listAuctionsByStatus(AuctionEntity.AuctionStatus.valueOf(status));
+        AuctionEntity.AuctionStatus auctionStatus = AuctionEntity.AuctionStatus.valueOf(status);
+        List<AuctionResponsePublic> response = after == null && limit == null
+                ? auctionService.listAuctionsByStatus(auctionStatus)
+                : auctionService.listAuctionsByStatus(auctionStatus, after, limit == null ? 50 : limit);
         ApiResponse<List<AuctionResponsePublic>> apiResponse = new ApiResponse<>(true, "Auctions by status retrieved successfully", response);
         return ResponseEntity.ok(apiResponse);
     }
@@ -9,7 +9,7 @@ public record ClaimItemRequest(
     @NotNull(message = "Item ID is required")
     UUID itemId,
     
-    @NotNull(message = "Item owner ID is required")
+    // Optional: checked against the owner in the item read model, never trusted
     UUID itemOwnerId,
     
     @NotBlank(message = "Please provide a reason for claiming this item")
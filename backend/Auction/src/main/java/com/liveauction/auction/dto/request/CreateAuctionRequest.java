@@ -12,13 +12,16 @@ public record CreateAuctionRequest(
     
     @NotNull(message = "Starting price is required")
     @DecimalMin(value = "0.01", message = "Starting price must be greater than 0")
+    @Digits(integer = 8, fraction = 2, message = "Starting price must have at most 2 decimals")
     BigDecimal startingPrice,
     
     @DecimalMin(value = "0.01", message = "Reserve price must be greater than 0")
+    @Digits(integer = 8, fraction = 2, message = "Reserve price must have at most 2 decimals")
     BigDecimal reservePrice,
     
     @NotNull(message = "Bid increment is required")
     @DecimalMin(value = "0.01", message = "Bid increment must be greater than 0")
+    @Digits(integer = 8, fraction = 2, message = "Bid increment must have at most 2 decimals")
     BigDecimal bidIncrement,
     
     @NotNull(message = "Start time is required")
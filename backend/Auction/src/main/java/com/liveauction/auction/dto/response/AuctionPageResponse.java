@@ -0,0 +1,36 @@
+package com.liveauction.auction.dto.response;
+
+import com.liveauction.shared.money.Money;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Everything the auction detail page needs in one response.
+ * degraded lists the parts that were served from a fallback
+ * ("item", "auctioneer") because the owning service was slow or down.
+ */
+public record AuctionPageResponse(
+    AuctionResponsePublic auction,
+    ItemDetails item,
+    AuctioneerDetails auctioneer,
+    List<String> degraded
+) {
+    public record ItemDetails(
+        UUID itemId,
+        UUID itemOwnerId,
+        String name,
+        String description,
+        String category,
+        String condition,
+        Money startingPrice,
+        Money bidIncrement
+    ) {}
+
+    public record AuctioneerDetails(
+        UUID id,
+        String username,
+        BigDecimal auctioneerRating
+    ) {}
+}
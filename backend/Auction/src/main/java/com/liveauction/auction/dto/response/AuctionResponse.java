@@ -1,8 +1,8 @@
 package com.liveauction.auction.dto.response;
 
 import com.liveauction.auction.entity.AuctionEntity;
+import com.liveauction.shared.money.Money;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.UUID;
 
@@ -12,13 +12,13 @@ public record AuctionResponse(
     UUID itemId,
     UUID auctioneerId,
     String status,
-    BigDecimal startingPrice,
-    BigDecimal reservePrice,
-    BigDecimal bidIncrement,
+    Money startingPrice,
+    Money reservePrice,
+    Money bidIncrement,
     Instant startTime,
     Instant endTime,
     UUID winnerId,
-    BigDecimal winningBid,
+    Money winningBid,
     Instant createdAt
 ) {
     public static AuctionResponse fromEntity(AuctionEntity auction) {
@@ -1,8 +1,9 @@
 package com.liveauction.auction.dto.response;
 
 import com.liveauction.auction.entity.AuctionEntity;
+import com.liveauction.auction.entity.ItemSummaryEntity;
+import com.liveauction.shared.money.Money;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.UUID;
 
@@ -10,17 +11,27 @@ public record AuctionResponsePublic(
     UUID auctionId,
     String title,
     UUID itemId,
+    String itemName,
+    String itemCategory,
+    String itemCondition,
     String status,
-    BigDecimal startingPrice,
-    BigDecimal bidIncrement,
+    Money startingPrice,
+    Money bidIncrement,
     Instant startTime,
     Instant endTime
 ) {
     public static AuctionResponsePublic fromEntity(AuctionEntity auction) {
+        return fromEntity(auction, null);
+    }
+
+    public static AuctionResponsePublic fromEntity(AuctionEntity auction, ItemSummaryEntity item) {
         return new AuctionResponsePublic(
             auction.getId(),
             auction.getTitle(),
             auction.getItemId(),
+            item != null ? item.getName() : null,
+            item != null ? item.getCategory() : null,
+            item != null ? item.getCondition() : null,
             auction.getStatus().name(),
             auction.getStartingPrice(),
             auction.getBidIncrement(),
@@ -28,4 +39,20 @@ public record AuctionResponsePublic(
             auction.getEndTime()
         );
     }
+
+    public static AuctionResponsePublic fromArchived(AuctionResponse auction, ItemSummaryEntity item) {
+        return new AuctionResponsePublic(
+            auction.auctionId(),
+            auction.title(),
+            auction.itemId(),
+            item != null ? item.getName() : null,
+            item != null ? item.getCategory() : null,
+            item != null ? item.getCondition() : null,
+            auction.status(),
+            auction.startingPrice(),
+            auction.bidIncrement(),
+            auction.startTime(),
+            auction.endTime()
+        );
+    }
 }
\ No newline at end of file
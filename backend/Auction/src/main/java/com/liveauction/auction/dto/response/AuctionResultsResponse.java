@@ -0,0 +1,19 @@
+package com.liveauction.auction.dto.response;
+
+import java.time.LocalDate;
+
+/**
+ * Rates are null when their denominator is zero.
+ */
+public record AuctionResultsResponse(
+    String category,
+    String condition,
+    LocalDate from,
+    LocalDate to,
+    long closedAuctions,
+    long soldAuctions,
+    Double sellThroughRate,
+    Double averageHammerToStartingPrice,
+    Double reserveMetRate
+) {
+}
@@ -0,0 +1,21 @@
+package com.liveauction.auction.dto.response;
+
+import com.liveauction.auction.service.BidHistoryCodec;
+import com.liveauction.shared.money.Money;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record BidHistoryEntryResponse(
+    UUID bidderId,
+    Money amount,
+    Instant placedAt
+) {
+    public static BidHistoryEntryResponse fromBid(BidHistoryCodec.Bid bid) {
+        return new BidHistoryEntryResponse(
+            bid.bidderId(),
+            Money.ofCents(bid.amountCents()),
+            bid.placedAt()
+        );
+    }
+}
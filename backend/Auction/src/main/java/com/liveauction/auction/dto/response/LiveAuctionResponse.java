@@ -0,0 +1,17 @@
+package com.liveauction.auction.dto.response;
+
+import com.liveauction.shared.money.Money;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record LiveAuctionResponse(
+    UUID auctionId,
+    Money highestBid,
+    UUID highestBidderId,
+    long bidCount,
+    Instant lastBidAt,
+    long views,
+    String nodeId // Node that owns and served the auction
+) {
+}
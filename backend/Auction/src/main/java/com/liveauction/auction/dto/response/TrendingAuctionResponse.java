@@ -0,0 +1,30 @@
+package com.liveauction.auction.dto.response;
+
+import com.liveauction.auction.entity.AuctionEntity;
+import com.liveauction.auction.entity.ItemSummaryEntity;
+import com.liveauction.shared.money.Money;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record TrendingAuctionResponse(
+    UUID auctionId,
+    String title,
+    String itemName,
+    String itemCategory,
+    Money startingPrice,
+    Instant endTime,
+    double score
+) {
+    public static TrendingAuctionResponse fromEntity(AuctionEntity auction, ItemSummaryEntity item, double score) {
+        return new TrendingAuctionResponse(
+            auction.getId(),
+            auction.getTitle(),
+            item != null ? item.getName() : null,
+            item != null ? item.getCategory() : null,
+            auction.getStartingPrice(),
+            auction.getEndTime(),
+            score
+        );
+    }
+}
@@ -0,0 +1,46 @@
+package com.liveauction.auction.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Cold copy of a COMPLETED or CANCELLED auction, moved out of auctions by AuctionArchiveService.
+ * Only the columns history is looked up by are kept; the full AuctionResponse is
+ * stored as gzip compressed JSON.
+ */
+@Entity
+@Table(name = "auction_archive")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuctionArchiveEntity {
+
+    @Id
+    private UUID id; // Same id the auction had in the hot table
+
+    @Column(nullable = false)
+    private UUID auctioneerId;
+
+    @Column(nullable = false)
+    private UUID itemId;
+
+    @Column(nullable = false)
+    private UUID claimId;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @Column(nullable = false)
+    private Instant endTime;
+
+    @Column(nullable = false)
+    private Instant archivedAt;
+
+    @Column(nullable = false)
+    private byte[] payload; // gzip(JSON(AuctionResponse))
+}
@@ -0,0 +1,37 @@
+package com.liveauction.auction.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Bid history of a closed auction, compacted into one columnar chunk by BidHistoryCodec.
+ * A whole history is a single row, so reading it is one sequential read of the chunk.
+ */
+@Entity
+@Table(name = "auction_bid_history")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuctionBidHistoryEntity {
+
+    @Id
+    private UUID auctionId;
+
+    @Column(nullable = false)
+    private int bidCount;
+
+    private Instant firstBidAt;
+
+    private Instant lastBidAt;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private byte[] chunk; // BidHistoryCodec format
+}
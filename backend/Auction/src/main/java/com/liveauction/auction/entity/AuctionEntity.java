@@ -1,9 +1,10 @@
 package com.liveauction.auction.entity;
 
+import com.liveauction.shared.money.Money;
+import com.liveauction.shared.money.MoneyConverter;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.UUID;
 
@@ -34,13 +35,16 @@ public class AuctionEntity extends BaseEntity {
     private AuctionStatus status = AuctionStatus.SCHEDULED;
     
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal startingPrice;
+    @Convert(converter = MoneyConverter.class)
+    private Money startingPrice;
     
     @Column(precision = 10, scale = 2)
-    private BigDecimal reservePrice;
+    @Convert(converter = MoneyConverter.class)
+    private Money reservePrice;
     
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal bidIncrement;
+    @Convert(converter = MoneyConverter.class)
+    private Money bidIncrement;
     
     @Column(nullable = false)
     private Instant startTime; // When auction starts
@@ -51,7 +55,10 @@ public class AuctionEntity extends BaseEntity {
     private UUID winnerId; // Highest bidder (set by bidding engine)
     
     @Column(precision = 10, scale = 2)
-    private BigDecimal winningBid; // Final winning bid amount
+    @Convert(converter = MoneyConverter.class)
+    private Money winningBid; // Final winning bid amount
+
+    private Instant resultReceivedAt; // When the bidding engine's close event was applied
     
     // Auction Status Enum
     public enum AuctionStatus {
@@ -0,0 +1,43 @@
+package com.liveauction.auction.entity;
+
+import com.liveauction.shared.money.Money;
+import com.liveauction.shared.money.MoneyConverter;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Live state of an ONGOING auction handed off by a node that no longer owns it.
+ * The new owner loads and deletes the row the first time it touches the auction.
+ */
+@Entity
+@Table(name = "auction_live_state")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuctionLiveStateEntity {
+
+    @Id
+    private UUID auctionId;
+
+    @Column(precision = 10, scale = 2)
+    @Convert(converter = MoneyConverter.class)
+    private Money highestBid;
+
+    private UUID highestBidderId;
+
+    @Column(nullable = false)
+    private long bidCount;
+
+    private Instant lastBidAt;
+
+    @Column(nullable = false)
+    private long views;
+
+    @Column(nullable = false)
+    private Instant handedOffAt;
+}
@@ -0,0 +1,33 @@
+package com.liveauction.auction.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * A running Auction service node. Nodes heartbeat their row; rows older than
+ * app.cluster.node-ttl are treated as gone and their auctions move to other nodes.
+ */
+@Entity
+@Table(name = "auction_nodes")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuctionNodeEntity {
+
+    @Id
+    @Column(length = 64)
+    private String nodeId;
+
+    @Column(nullable = false)
+    private String baseUrl; // Where other nodes redirect requests for this node's auctions
+
+    @Column(nullable = false)
+    private Instant heartbeatAt;
+
+    @Column(nullable = false)
+    private Instant startedAt;
+}
@@ -0,0 +1,51 @@
+package com.liveauction.auction.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Totals of one category/condition/day bucket of AuctionAnalyticsService.
+ * Rows are only changed by additive UPDATEs, so every node's results add up.
+ */
+@Entity
+@Table(name = "auction_result_aggregates")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuctionResultAggregateEntity {
+
+    @Id
+    private String bucketKey; // category|condition|day
+
+    @Column(nullable = false, length = 50)
+    private String category;
+
+    @Column(nullable = false, length = 50)
+    private String condition;
+
+    @Column(nullable = false)
+    private LocalDate bucketDay;
+
+    @Column(nullable = false)
+    private long closed;
+
+    @Column(nullable = false)
+    private long sold;
+
+    @Column(nullable = false)
+    private long withReserve;
+
+    @Column(nullable = false)
+    private long reserveMet;
+
+    @Column(nullable = false)
+    private double hammerRatioSum; // Sum of winningBid / startingPrice over sold auctions
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+}
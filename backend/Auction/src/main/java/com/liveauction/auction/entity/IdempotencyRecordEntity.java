@@ -0,0 +1,52 @@
+package com.liveauction.auction.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+/**
+ * Outcome of a POST sent with an Idempotency-Key, so retries replay it.
+ * A row is inserted IN_PROGRESS before the request runs; the unique key
+ * makes concurrent duplicates fail fast. An IN_PROGRESS row not touched
+ * for the lease (updatedAt) is taken over by the next retry.
+ */
+@Entity
+@Table(
+        name = "idempotency_records",
+        uniqueConstraints = @UniqueConstraint(name = "uk_idempotency_user_key", columnNames = {"userId", "idempotencyKey"})
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IdempotencyRecordEntity extends BaseEntity {
+
+    @Column(nullable = false)
+    private UUID userId; // Caller the key belongs to
+
+    @Column(nullable = false, length = 100)
+    private String idempotencyKey;
+
+    @Column(nullable = false)
+    private String route; // Method and path the key was first used on
+
+    @Column(length = 64)
+    private String requestHash; // SHA-256 of route and request body, null on rows from before it was stored
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    @Builder.Default
+    private RecordStatus status = RecordStatus.IN_PROGRESS;
+
+    private Integer httpStatus;
+
+    @Column(columnDefinition = "TEXT")
+    private String responseBody; // Serialized ApiResponse
+
+    public enum RecordStatus {
+        IN_PROGRESS, // Original request still running
+        COMPLETED    // Response stored, retries replay it
+    }
+}
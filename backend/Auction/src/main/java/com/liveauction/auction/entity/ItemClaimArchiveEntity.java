@@ -0,0 +1,39 @@
+package com.liveauction.auction.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Cold copy of a resolved claim, moved out of item_claims by AuctionArchiveService.
+ * The full ClaimResponse is stored as gzip compressed JSON.
+ */
+@Entity
+@Table(name = "item_claim_archive")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ItemClaimArchiveEntity {
+
+    @Id
+    private UUID id; // Same id the claim had in the hot table
+
+    @Column(nullable = false)
+    private UUID itemId;
+
+    @Column(nullable = false)
+    private UUID auctioneerId;
+
+    @Column(nullable = false, length = 20)
+    private String status;
+
+    @Column(nullable = false)
+    private Instant archivedAt;
+
+    @Column(nullable = false)
+    private byte[] payload; // gzip(JSON(ClaimResponse))
+}
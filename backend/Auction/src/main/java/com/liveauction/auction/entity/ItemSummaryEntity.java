@@ -0,0 +1,52 @@
+package com.liveauction.auction.entity;
+
+import com.liveauction.shared.money.Money;
+import com.liveauction.shared.money.MoneyConverter;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Local read model of an item, kept up to date from Item service events.
+ * The id is the item id, so there is exactly one row per item.
+ */
+@Entity
+@Table(name = "item_summaries")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ItemSummaryEntity {
+
+    @Id
+    private UUID id; // Item id from the Item service
+
+    @Column(nullable = false)
+    private UUID ownerId;
+
+    @Column(nullable = false, length = 200)
+    private String name;
+
+    @Column(nullable = false)
+    private String category;
+
+    @Column(nullable = false)
+    private String condition;
+
+    @Column(nullable = false)
+    private String status;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    @Convert(converter = MoneyConverter.class)
+    private Money startingPrice;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    @Convert(converter = MoneyConverter.class)
+    private Money bidIncrement;
+
+    @Column(nullable = false)
+    private Instant sourceUpdatedAt; // updatedAt of the item when the event was published
+}
@@ -0,0 +1,24 @@
+package com.liveauction.auction.event.consumer;
+
+import com.liveauction.auction.service.AuctionResultService;
+import com.liveauction.shared.events.AuctionEvents.AuctionCompletedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.Consumer;
+
+/**
+ * Applies the bidding engine's close events, which also feeds the results analytics.
+ * Binding (auctionCompleted-in-0) is in stream-bindings.yml.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class AuctionResultEventConsumer {
+    private final AuctionResultService auctionResultService;
+
+    @Bean
+    public Consumer<AuctionCompletedEvent> auctionCompleted() {
+        return auctionResultService::applyResult;
+    }
+}
@@ -0,0 +1,24 @@
+package com.liveauction.auction.event.consumer;
+
+import com.liveauction.auction.service.BidHistoryService;
+import com.liveauction.shared.events.AuctionEvents.AuctionBidHistoryEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.Consumer;
+
+/**
+ * Stores the bid history the bidding engine publishes when a room closes.
+ * Binding (bidHistoryClosed-in-0) is in stream-bindings.yml.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class BidHistoryEventConsumer {
+    private final BidHistoryService bidHistoryService;
+
+    @Bean
+    public Consumer<AuctionBidHistoryEvent> bidHistoryClosed() {
+        return bidHistoryService::store;
+    }
+}
@@ -0,0 +1,38 @@
+package com.liveauction.auction.event.consumer;
+
+import com.liveauction.auction.service.LiveAuctionRegistry;
+import com.liveauction.auction.service.TrendingService;
+import com.liveauction.shared.events.AuctionEvents.AuctionBidPlacedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Feeds accepted bids from the bidding engine into the trending sketch and the
+ * live state of the owning node.
+ * Binding (bidPlaced-in-0) is in stream-bindings.yml; it has no consumer group,
+ * so every Auction instance sees every bid.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class BidPlacedEventConsumer {
+    private final TrendingService trendingService;
+    private final LiveAuctionRegistry liveAuctionRegistry;
+
+    @Bean
+    public Consumer<AuctionBidPlacedEvent> bidPlaced() {
+        return event -> {
+            UUID auctionId = UUID.fromString(event.auctionId());
+            trendingService.recordBid(auctionId);
+            liveAuctionRegistry.recordBid(
+                    auctionId,
+                    UUID.fromString(event.bidderId()),
+                    event.amount(),
+                    event.placedAt() != null ? event.placedAt() : Instant.now());
+        };
+    }
+}
@@ -0,0 +1,50 @@
+package com.liveauction.auction.event.consumer;
+
+import com.liveauction.auction.service.ItemSummaryService;
+import com.liveauction.shared.events.ItemEvents.ItemCreatedEvent;
+import com.liveauction.shared.events.ItemEvents.ItemUpdatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.function.Consumer;
+
+/**
+ * Feeds the local item read model from Item service events.
+ * Bindings (itemCreated-in-0, itemUpdated-in-0) are in stream-bindings.yml.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class ItemEventConsumer {
+    private final ItemSummaryService itemSummaryService;
+
+    @Bean
+    public Consumer<ItemCreatedEvent> itemCreated() {
+        return event -> itemSummaryService.apply(
+                event.itemId(),
+                event.ownerId(),
+                event.name(),
+                event.category(),
+                event.condition(),
+                event.status(),
+                event.startingPrice(),
+                event.bidIncrement(),
+                event.updatedAt()
+        );
+    }
+
+    @Bean
+    public Consumer<ItemUpdatedEvent> itemUpdated() {
+        return event -> itemSummaryService.apply(
+                event.itemId(),
+                event.ownerId(),
+                event.name(),
+                event.category(),
+                event.condition(),
+                event.status(),
+                event.startingPrice(),
+                event.bidIncrement(),
+                event.updatedAt()
+        );
+    }
+}
@@ -1,6 +1,8 @@
 package com.liveauction.auction.event.producer;
 
 import com.liveauction.shared.events.AuctionEvents.AuctionCreatedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.Message;
@@ -12,6 +14,7 @@ import org.springframework.cloud.stream.function.StreamBridge;
 @RequiredArgsConstructor
 public class AuctionCreatedEventProducer {
     private final StreamBridge streamBridge;
+    private final MeterRegistry meterRegistry;
 
     @Value("${app.bindings.auction.created.routing-key}")
     private String auctionCreatedRoutingKey;
@@ -24,7 +27,11 @@ public class AuctionCreatedEventProducer {
                 .withPayload(auctionCreatedEvent)
                 .setHeader("routingKey", auctionCreatedRoutingKey)
                 .build();
-        streamBridge.send(auctionChannel, message);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean sent = streamBridge.send(auctionChannel, message);
+        sample.stop(meterRegistry.timer("event.publish",
+                "routingKey", auctionCreatedRoutingKey,
+                "result", sent ? "sent" : "failed"));
     }
 
 }
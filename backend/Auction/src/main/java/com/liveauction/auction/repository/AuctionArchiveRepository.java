@@ -0,0 +1,15 @@
+package com.liveauction.auction.repository;
+
+import com.liveauction.auction.entity.AuctionArchiveEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface AuctionArchiveRepository extends JpaRepository<AuctionArchiveEntity, UUID> {
+
+    // Archived auctions of an auctioneer, latest first
+    List<AuctionArchiveEntity> findAllByAuctioneerIdOrderByEndTimeDesc(UUID auctioneerId);
+}
@@ -0,0 +1,27 @@
+package com.liveauction.auction.repository;
+
+import com.liveauction.auction.entity.AuctionLiveStateEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Repository
+public interface AuctionLiveStateRepository extends JpaRepository<AuctionLiveStateEntity, UUID> {
+
+    // Claim a handoff row that was read before; 1 for exactly one caller, 0 for everyone else
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM AuctionLiveStateEntity s WHERE s.auctionId = :auctionId AND s.handedOffAt = :handedOffAt")
+    int claim(@Param("auctionId") UUID auctionId, @Param("handedOffAt") Instant handedOffAt);
+
+    // Handoffs nobody picked up, e.g. the auction ended meanwhile
+    @Modifying
+    @Query("DELETE FROM AuctionLiveStateEntity s WHERE s.handedOffAt < :cutoff")
+    int deleteHandedOffBefore(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,22 @@
+package com.liveauction.auction.repository;
+
+import com.liveauction.auction.entity.AuctionNodeEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface AuctionNodeRepository extends JpaRepository<AuctionNodeEntity, String> {
+
+    // Live members of the cluster
+    List<AuctionNodeEntity> findAllByHeartbeatAtAfter(Instant since);
+
+    @Modifying
+    @Query("DELETE FROM AuctionNodeEntity n WHERE n.heartbeatAt < :cutoff")
+    int deleteHeartbeatBefore(@Param("cutoff") Instant cutoff);
+}
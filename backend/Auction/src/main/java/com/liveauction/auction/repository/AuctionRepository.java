@@ -2,26 +2,52 @@ package com.liveauction.auction.repository;
 
 import com.liveauction.auction.entity.AuctionEntity;
 import com.liveauction.auction.entity.AuctionEntity.AuctionStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface AuctionRepository extends JpaRepository<AuctionEntity, UUID> {
+
+    // Lock timeout hint value Hibernate renders as SKIP LOCKED (LockOptions.SKIP_LOCKED)
+    String SKIP_LOCKED = "-2";
     
     // Find auctions by auctioneer
     Optional<List<AuctionEntity>> findAllByAuctioneerId(UUID auctioneerId);
     
     // Find auctions by status (for public listing)
     Optional<List<AuctionEntity>> findAllByStatus(AuctionStatus status);
+
+    // Keyset pages of auctions by status, ids are time-ordered (UUIDv7)
+    List<AuctionEntity> findAllByStatusOrderByIdAsc(AuctionStatus status, Limit limit);
+
+    List<AuctionEntity> findAllByStatusAndIdGreaterThanOrderByIdAsc(AuctionStatus status, UUID after, Limit limit);
+
+    // Terminal auctions past the retention window (for archival)
+    List<AuctionEntity> findAllByStatusInAndUpdatedAtBefore(Collection<AuctionStatus> statuses, Instant cutoff, Limit limit);
     
-    // Find SCHEDULED auctions that should start (for scheduled task)
-    List<AuctionEntity> findAllByStatusAndStartTimeLessThanEqual(AuctionStatus status, Instant time);
+    // Load an auction FOR UPDATE, waiting for whoever holds it (applying a result exactly once)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<AuctionEntity> findLockedById(UUID id);
+
+    // Claim SCHEDULED auctions that should start (for scheduled task). FOR UPDATE SKIP LOCKED:
+    // rows another node has claimed are skipped, so nodes share the work without duplicates
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    List<AuctionEntity> findAllByStatusAndStartTimeLessThanEqualOrderByStartTimeAsc(AuctionStatus status, Instant time, Limit limit);
     
-    // Find ONGOING auctions that should end (for scheduled task)
-    List<AuctionEntity> findAllByStatusAndEndTimeLessThanEqual(AuctionStatus status, Instant time);
+    // Claim ONGOING auctions that should end (for scheduled task), same locking as above
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = SKIP_LOCKED))
+    List<AuctionEntity> findAllByStatusAndEndTimeLessThanEqualOrderByEndTimeAsc(AuctionStatus status, Instant time, Limit limit);
 }
@@ -0,0 +1,32 @@
+package com.liveauction.auction.repository;
+
+import com.liveauction.auction.entity.AuctionResultAggregateEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface AuctionResultAggregateRepository extends JpaRepository<AuctionResultAggregateEntity, String> {
+
+    // Buckets changed since the last refresh of the in-memory copy
+    List<AuctionResultAggregateEntity> findAllByUpdatedAtGreaterThanEqual(Instant since);
+
+    // Add one result to a bucket; 0 when the bucket has no row yet
+    @Modifying
+    @Query("UPDATE AuctionResultAggregateEntity a SET a.closed = a.closed + :closed, a.sold = a.sold + :sold, "
+            + "a.withReserve = a.withReserve + :withReserve, a.reserveMet = a.reserveMet + :reserveMet, "
+            + "a.hammerRatioSum = a.hammerRatioSum + :hammerRatioSum, a.updatedAt = :updatedAt "
+            + "WHERE a.bucketKey = :bucketKey")
+    int increment(@Param("bucketKey") String bucketKey,
+                  @Param("closed") long closed,
+                  @Param("sold") long sold,
+                  @Param("withReserve") long withReserve,
+                  @Param("reserveMet") long reserveMet,
+                  @Param("hammerRatioSum") double hammerRatioSum,
+                  @Param("updatedAt") Instant updatedAt);
+}
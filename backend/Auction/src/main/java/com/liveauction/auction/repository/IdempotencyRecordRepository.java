@@ -0,0 +1,31 @@
+package com.liveauction.auction.repository;
+
+import com.liveauction.auction.entity.IdempotencyRecordEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecordEntity, UUID> {
+
+    Optional<IdempotencyRecordEntity> findByUserIdAndIdempotencyKey(UUID userId, String idempotencyKey);
+
+    // Take over an IN_PROGRESS record whose lease expired; 0 when it completed or someone else took it
+    @Transactional
+    @Modifying
+    @Query("UPDATE IdempotencyRecordEntity r SET r.updatedAt = :now WHERE r.id = :id "
+            + "AND r.status = com.liveauction.auction.entity.IdempotencyRecordEntity.RecordStatus.IN_PROGRESS "
+            + "AND r.updatedAt < :expiredBefore")
+    int takeOver(@Param("id") UUID id, @Param("expiredBefore") Instant expiredBefore, @Param("now") Instant now);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecordEntity r WHERE r.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") Instant cutoff);
+}
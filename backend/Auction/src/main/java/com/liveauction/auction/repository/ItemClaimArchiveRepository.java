@@ -0,0 +1,16 @@
+package com.liveauction.auction.repository;
+
+import com.liveauction.auction.entity.ItemClaimArchiveEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface ItemClaimArchiveRepository extends JpaRepository<ItemClaimArchiveEntity, UUID> {
+
+    // Same checks as ItemClaimRepository, so archiving does not reopen an item to duplicate claims
+    boolean existsByItemIdAndAuctioneerId(UUID itemId, UUID auctioneerId);
+
+    boolean existsByItemIdAndStatus(UUID itemId, String status);
+}
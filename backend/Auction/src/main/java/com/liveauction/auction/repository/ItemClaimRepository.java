@@ -3,9 +3,11 @@ package com.liveauction.auction.repository;
 import com.liveauction.auction.entity.ItemClaimEntity;
 import com.liveauction.auction.entity.ItemClaimEntity.ClaimStatus;
 import jakarta.validation.constraints.NotNull;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -29,4 +31,7 @@ public interface ItemClaimRepository extends JpaRepository<ItemClaimEntity, UUID
     Optional<List<ItemClaimEntity>> findAllByAuctioneerIdAndStatus(UUID userId, ClaimStatus status);
 
     boolean existsByItemIdAndStatus(@NotNull(message = "Item ID is required") UUID uuid, ClaimStatus claimStatus);
+
+    // Resolved claims past the retention window (for archival)
+    List<ItemClaimEntity> findAllByStatusAndUpdatedAtBefore(ClaimStatus status, Instant cutoff, Limit limit);
 }
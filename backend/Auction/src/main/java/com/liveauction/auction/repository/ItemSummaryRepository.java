@@ -0,0 +1,11 @@
+package com.liveauction.auction.repository;
+
+import com.liveauction.auction.entity.ItemSummaryEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface ItemSummaryRepository extends JpaRepository<ItemSummaryEntity, UUID> {
+}
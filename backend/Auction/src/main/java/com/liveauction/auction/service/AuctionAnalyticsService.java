@@ -0,0 +1,242 @@
+package com.liveauction.auction.service;
+
+import com.liveauction.auction.dto.response.AuctionResultsResponse;
+import com.liveauction.auction.entity.AuctionEntity;
+import com.liveauction.auction.entity.AuctionResultAggregateEntity;
+import com.liveauction.auction.entity.ItemSummaryEntity;
+import com.liveauction.auction.repository.AuctionResultAggregateRepository;
+import com.liveauction.shared.money.Money;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Results of closed auctions per category/condition/UTC day
+ * - record() adds an auction to its day bucket and the ALL roll-ups as additive UPDATEs
+ *   in the transaction that applies the result, so each result counts exactly once
+ *   whichever node consumed it
+ * - Queries are answered from an in-memory copy of the buckets, refreshed with the rows
+ *   changed since the previous refresh
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AuctionAnalyticsService {
+
+    public static final String ALL = "ALL";
+    private static final String UNKNOWN = "UNKNOWN";
+    private static final int MAX_RANGE_DAYS = 366;
+
+    // Re-read rows stamped this long before the previous refresh, a transaction may commit after its stamp
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(1);
+
+    /**
+     * What the analytics need to know about a closed auction.
+     * hammerPrice is null when nobody bid.
+     */
+    public record AuctionOutcome(
+            String category,
+            String condition,
+            Instant endTime,
+            Money startingPrice,
+            Money reservePrice,
+            Money hammerPrice
+    ) {
+    }
+
+    private record BucketKey(String category, String condition, LocalDate day) {
+        String id() {
+            return category + "|" + condition + "|" + day;
+        }
+    }
+
+    private final AuctionResultAggregateRepository aggregateRepository;
+
+    private final Map<BucketKey, Aggregate> aggregates = new ConcurrentHashMap<>();
+    private Instant refreshedFrom = Instant.EPOCH;
+
+    /**
+     * Load all buckets before the event consumers start
+     */
+    @PostConstruct
+    void init() {
+        refresh();
+        log.info("Loaded {} result aggregates", aggregates.size());
+    }
+
+    /**
+     * Fold one closed auction into its day bucket and the ALL roll-ups.
+     * Must run in the transaction that marks the result applied.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(AuctionOutcome outcome) {
+        LocalDate day = LocalDate.ofInstant(outcome.endTime(), ZoneOffset.UTC);
+        Aggregate increment = Aggregate.of(outcome);
+        Instant now = Instant.now();
+
+        // Same lock order on every node, concurrent results for one day cannot deadlock
+        List<BucketKey> keys = new ArrayList<>(4);
+        for (String category : List.of(outcome.category(), ALL)) {
+            for (String condition : List.of(outcome.condition(), ALL)) {
+                keys.add(new BucketKey(category, condition, day));
+            }
+        }
+        keys.sort(Comparator.comparing(BucketKey::id));
+
+        for (BucketKey key : keys) {
+            int updated = aggregateRepository.increment(key.id(), increment.closed, increment.sold,
+                    increment.withReserve, increment.reserveMet, increment.hammerRatioSum, now);
+            if (updated == 0) {
+                // First result of the bucket. A concurrent first insert fails on the primary key,
+                // the consumer's retry then finds the row and increments it.
+                aggregateRepository.saveAndFlush(increment.toEntity(key, now));
+            }
+        }
+    }
+
+    /**
+     * Results of auctions that ended between from and to (UTC days, inclusive)
+     * - One map lookup per day, independent of how many auctions closed
+     * - category/condition default to ALL
+     */
+    public AuctionResultsResponse query(String category, String condition, LocalDate from, LocalDate to) {
+        String categoryKey = category == null ? ALL : category.toUpperCase(Locale.ROOT);
+        String conditionKey = condition == null ? ALL : condition.toUpperCase(Locale.ROOT);
+        if (to.isBefore(from)) {
+            throw new RuntimeException("'to' must not be before 'from'");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new RuntimeException("Date range must not exceed " + MAX_RANGE_DAYS + " days");
+        }
+
+        Aggregate total = new Aggregate();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            Aggregate bucket = aggregates.get(new BucketKey(categoryKey, conditionKey, day));
+            if (bucket != null) {
+                total.merge(bucket);
+            }
+        }
+        return total.toResponse(categoryKey, conditionKey, from, to);
+    }
+
+    /**
+     * Copy the buckets other nodes and this one changed since the previous refresh.
+     * Rows hold the full totals, so reading one twice is harmless.
+     */
+    @Scheduled(fixedDelayString = "${app.analytics.refresh-interval:PT10S}",
+            initialDelayString = "${app.analytics.refresh-interval:PT10S}")
+    public synchronized void refresh() {
+        Instant startedAt = Instant.now();
+        List<AuctionResultAggregateEntity> rows = aggregateRepository.findAllByUpdatedAtGreaterThanEqual(
+                refreshedFrom.minus(REFRESH_OVERLAP));
+        for (AuctionResultAggregateEntity row : rows) {
+            aggregates.put(new BucketKey(row.getCategory(), row.getCondition(), row.getBucketDay()), Aggregate.of(row));
+        }
+        refreshedFrom = startedAt;
+        log.debug("Refreshed {} result aggregates", rows.size());
+    }
+
+    public static AuctionOutcome outcomeOf(AuctionEntity auction, ItemSummaryEntity item) {
+        return new AuctionOutcome(
+                item != null ? item.getCategory() : UNKNOWN,
+                item != null ? item.getCondition() : UNKNOWN,
+                auction.getEndTime(),
+                auction.getStartingPrice(),
+                auction.getReservePrice(),
+                auction.getWinnerId() != null ? auction.getWinningBid() : null
+        );
+    }
+
+    /**
+     * Totals of one bucket, or the increment of one auction. Buckets in the
+     * map are replaced, never changed, so queries need no locking.
+     */
+    private static final class Aggregate {
+        private long closed;
+        private long sold;
+        private long withReserve;
+        private long reserveMet;
+        private double hammerRatioSum;
+
+        static Aggregate of(AuctionResultAggregateEntity row) {
+            Aggregate aggregate = new Aggregate();
+            aggregate.closed = row.getClosed();
+            aggregate.sold = row.getSold();
+            aggregate.withReserve = row.getWithReserve();
+            aggregate.reserveMet = row.getReserveMet();
+            aggregate.hammerRatioSum = row.getHammerRatioSum();
+            return aggregate;
+        }
+
+        static Aggregate of(AuctionOutcome outcome) {
+            Money hammer = outcome.hammerPrice();
+            boolean hasReserve = outcome.reservePrice() != null && outcome.reservePrice().isPositive();
+            boolean metReserve = hammer != null && hasReserve && hammer.isAtLeast(outcome.reservePrice());
+
+            Aggregate aggregate = new Aggregate();
+            aggregate.closed = 1;
+            if (hasReserve) {
+                aggregate.withReserve = 1;
+                if (metReserve) {
+                    aggregate.reserveMet = 1;
+                }
+            }
+            if (hammer != null && (!hasReserve || metReserve)) {
+                aggregate.sold = 1;
+                if (outcome.startingPrice() != null && outcome.startingPrice().isPositive()) {
+                    aggregate.hammerRatioSum = hammer.ratioTo(outcome.startingPrice());
+                }
+            }
+            return aggregate;
+        }
+
+        void merge(Aggregate other) {
+            closed += other.closed;
+            sold += other.sold;
+            withReserve += other.withReserve;
+            reserveMet += other.reserveMet;
+            hammerRatioSum += other.hammerRatioSum;
+        }
+
+        AuctionResultAggregateEntity toEntity(BucketKey key, Instant updatedAt) {
+            return AuctionResultAggregateEntity.builder()
+                    .bucketKey(key.id())
+                    .category(key.category())
+                    .condition(key.condition())
+                    .bucketDay(key.day())
+                    .closed(closed)
+                    .sold(sold)
+                    .withReserve(withReserve)
+                    .reserveMet(reserveMet)
+                    .hammerRatioSum(hammerRatioSum)
+                    .updatedAt(updatedAt)
+                    .build();
+        }
+
+        AuctionResultsResponse toResponse(String category, String condition, LocalDate from, LocalDate to) {
+            return new AuctionResultsResponse(
+                    category,
+                    condition,
+                    from,
+                    to,
+                    closed,
+                    sold,
+                    closed == 0 ? null : (double) sold / closed,
+                    sold == 0 ? null : hammerRatioSum / sold,
+                    withReserve == 0 ? null : (double) reserveMet / withReserve
+            );
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.liveauction.auction.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.liveauction.auction.dto.response.AuctionResponse;
+import com.liveauction.auction.dto.response.ClaimResponse;
+import com.liveauction.auction.entity.AuctionArchiveEntity;
+import com.liveauction.auction.entity.AuctionEntity;
+import com.liveauction.auction.entity.ItemClaimArchiveEntity;
+import com.liveauction.auction.entity.ItemClaimEntity;
+import com.liveauction.auction.repository.AuctionArchiveRepository;
+import com.liveauction.auction.repository.AuctionRepository;
+import com.liveauction.auction.repository.ItemClaimArchiveRepository;
+import com.liveauction.auction.repository.ItemClaimRepository;
+import com.liveauction.shared.jfr.SchedulerTickEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AuctionArchiveService {
+
+    private static final List<AuctionEntity.AuctionStatus> TERMINAL_STATUSES = List.of(
+            AuctionEntity.AuctionStatus.COMPLETED,
+            AuctionEntity.AuctionStatus.CANCELLED
+    );
+
+    private final AuctionRepository auctionRepository;
+    private final ItemClaimRepository claimRepository;
+    private final AuctionArchiveRepository auctionArchiveRepository;
+    private final ItemClaimArchiveRepository claimArchiveRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.archive.retention:P30D}")
+    private Duration retention;
+
+    @Value("${app.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.archive.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    /**
+     * Move old terminal rows from the hot tables into the archive tables
+     * - COMPLETED/CANCELLED auctions untouched for the retention window, with their claim
+     * - REJECTED claims untouched for the retention window
+     * - Each batch is one transaction: insert into the archive, delete from the hot table
+     * - At most max-batches-per-run batches per run, the rest waits for the next run
+     */
+    @Scheduled(fixedDelayString = "${app.archive.interval:PT1H}", initialDelayString = "${app.archive.initial-delay:PT5M}")
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+        SchedulerTickEvent tick = new SchedulerTickEvent();
+        tick.begin();
+        tick.job = "archive";
+
+        Instant cutoff = Instant.now().minus(retention);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int auctions = 0;
+        int claims = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Integer archived = transaction.execute(status -> archiveAuctionBatch(cutoff));
+            auctions += archived;
+            if (archived < batchSize) {
+                break;
+            }
+        }
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            Integer archived = transaction.execute(status -> archiveRejectedClaimBatch(cutoff));
+            claims += archived;
+            if (archived < batchSize) {
+                break;
+            }
+        }
+
+        tick.due = auctions + claims;
+        tick.commit();
+        if (auctions + claims > 0) {
+            log.info("Archived {} auctions and {} rejected claims older than {}", auctions, claims, cutoff);
+        }
+    }
+
+    /**
+     * Archived auctions of the current auctioneer, latest first
+     */
+    @Transactional(readOnly = true)
+    public List<AuctionResponse> listArchivedAuctions(UUID auctioneerId) {
+        return auctionArchiveRepository.findAllByAuctioneerIdOrderByEndTimeDesc(auctioneerId).stream()
+                .map(archived -> decode(archived.getPayload(), AuctionResponse.class))
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<AuctionResponse> findArchivedAuction(UUID auctionId) {
+        return auctionArchiveRepository.findById(auctionId)
+                .map(archived -> decode(archived.getPayload(), AuctionResponse.class));
+    }
+
+    @Transactional(readOnly = true)
+    public boolean hasArchivedClaim(UUID itemId, UUID auctioneerId) {
+        return claimArchiveRepository.existsByItemIdAndAuctioneerId(itemId, auctioneerId);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean hasArchivedApprovedClaim(UUID itemId) {
+        return claimArchiveRepository.existsByItemIdAndStatus(itemId, ItemClaimEntity.ClaimStatus.APPROVED.name());
+    }
+
+    private int archiveAuctionBatch(Instant cutoff) {
+        List<AuctionEntity> auctions = auctionRepository
+                .findAllByStatusInAndUpdatedAtBefore(TERMINAL_STATUSES, cutoff, Limit.of(batchSize));
+        if (auctions.isEmpty()) {
+            return 0;
+        }
+        Instant now = Instant.now();
+        List<AuctionArchiveEntity> archived = new ArrayList<>(auctions.size());
+        for (AuctionEntity auction : auctions) {
+            archived.add(AuctionArchiveEntity.builder()
+                    .id(auction.getId())
+                    .auctioneerId(auction.getAuctioneerId())
+                    .itemId(auction.getItemId())
+                    .claimId(auction.getClaimId())
+                    .status(auction.getStatus().name())
+                    .endTime(auction.getEndTime())
+                    .archivedAt(now)
+                    .payload(encode(AuctionResponse.fromEntity(auction)))
+                    .build());
+        }
+        List<ItemClaimEntity> claims = claimRepository.findAllById(auctions.stream().map(AuctionEntity::getClaimId).toList());
+
+        auctionArchiveRepository.saveAll(archived);
+        claimArchiveRepository.saveAll(claims.stream().map(claim -> toArchive(claim, now)).toList());
+        auctionRepository.deleteAllInBatch(auctions);
+        claimRepository.deleteAllInBatch(claims);
+
+        meterRegistry.counter("archive.rows", "table", "auctions").increment(auctions.size());
+        meterRegistry.counter("archive.rows", "table", "item_claims").increment(claims.size());
+        return auctions.size();
+    }
+
+    private int archiveRejectedClaimBatch(Instant cutoff) {
+        List<ItemClaimEntity> claims = claimRepository
+                .findAllByStatusAndUpdatedAtBefore(ItemClaimEntity.ClaimStatus.REJECTED, cutoff, Limit.of(batchSize));
+        if (claims.isEmpty()) {
+            return 0;
+        }
+        Instant now = Instant.now();
+        claimArchiveRepository.saveAll(claims.stream().map(claim -> toArchive(claim, now)).toList());
+        claimRepository.deleteAllInBatch(claims);
+
+        meterRegistry.counter("archive.rows", "table", "item_claims").increment(claims.size());
+        return claims.size();
+    }
+
+    private ItemClaimArchiveEntity toArchive(ItemClaimEntity claim, Instant archivedAt) {
+        return ItemClaimArchiveEntity.builder()
+                .id(claim.getId())
+                .itemId(claim.getItemId())
+                .auctioneerId(claim.getAuctioneerId())
+                .status(claim.getStatus().name())
+                .archivedAt(archivedAt)
+                .payload(encode(ClaimResponse.fromEntity(claim)))
+                .build();
+    }
+
+    private byte[] encode(Object value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (OutputStream gzip = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(gzip, value);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not compress archive payload", e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private <T> T decode(byte[] payload, Class<T> type) {
+        try (InputStream gzip = new GZIPInputStream(new ByteArrayInputStream(payload))) {
+            return objectMapper.readValue(gzip, type);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not read archive payload", e);
+        }
+    }
+}
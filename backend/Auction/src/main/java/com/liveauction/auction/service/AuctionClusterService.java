@@ -0,0 +1,144 @@
+package com.liveauction.auction.service;
+
+import com.liveauction.auction.config.ClusterProperties;
+import com.liveauction.auction.entity.AuctionNodeEntity;
+import com.liveauction.auction.repository.AuctionNodeRepository;
+import com.liveauction.shared.sharding.ConsistentHashRing;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Ownership of live auctions across Auction nodes.
+ * - Every node heartbeats a row in auction_nodes; nodes without a heartbeat for
+ *   node-ttl are pruned
+ * - Live members form a consistent-hash ring, an auction belongs to the node its
+ *   id hashes to, so a join or leave moves only that node's share of auctions
+ * - A RingChanged event is published when membership changes
+ * - With app.cluster.enabled=false this node owns every auction
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AuctionClusterService {
+
+    /**
+     * Published after the ring was rebuilt with a different membership
+     */
+    public record RingChanged(Set<String> nodes) {
+    }
+
+    private final ClusterProperties properties;
+    private final AuctionNodeRepository nodeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    private String nodeId;
+    private Instant startedAt;
+    private volatile ConsistentHashRing ring;
+    private volatile Map<String, String> baseUrls = Map.of();
+
+    @PostConstruct
+    void init() {
+        nodeId = properties.nodeId() == null || properties.nodeId().isBlank()
+                ? UUID.randomUUID().toString()
+                : properties.nodeId();
+        startedAt = Instant.now();
+        ring = new ConsistentHashRing(List.of(nodeId), Math.max(1, properties.virtualNodes()));
+        if (!properties.enabled()) {
+            return;
+        }
+        if (properties.advertisedUrl() == null || properties.advertisedUrl().isBlank()) {
+            throw new IllegalStateException("app.cluster.advertised-url is required when app.cluster.enabled=true");
+        }
+        heartbeat();
+        log.info("Joined auction cluster as {} ({}), members {}", nodeId, properties.advertisedUrl(), ring.nodes());
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public boolean owns(UUID auctionId) {
+        return !properties.enabled() || nodeId.equals(ring.ownerOf(auctionId.toString()));
+    }
+
+    /**
+     * Base URL of the node owning the auction, empty when this node owns it or
+     * the owner's URL is not known yet
+     */
+    public Optional<String> ownerUrl(UUID auctionId) {
+        if (!properties.enabled()) {
+            return Optional.empty();
+        }
+        String owner = ring.ownerOf(auctionId.toString());
+        if (owner == null || owner.equals(nodeId)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(baseUrls.get(owner));
+    }
+
+    /**
+     * Refresh this node's heartbeat, prune dead nodes and rebuild the ring
+     * when the live membership changed. Also runs once on startup, before requests are served.
+     */
+    @Scheduled(fixedDelayString = "${app.cluster.heartbeat-interval:PT5S}",
+            initialDelayString = "${app.cluster.heartbeat-interval:PT5S}")
+    public void heartbeat() {
+        if (!properties.enabled()) {
+            return;
+        }
+        Map<String, String> members = new HashMap<>();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Instant now = Instant.now();
+            nodeRepository.save(AuctionNodeEntity.builder()
+                    .nodeId(nodeId)
+                    .baseUrl(properties.advertisedUrl())
+                    .heartbeatAt(now)
+                    .startedAt(startedAt)
+                    .build());
+
+            Instant cutoff = now.minus(properties.nodeTtl());
+            int pruned = nodeRepository.deleteHeartbeatBefore(cutoff);
+            if (pruned > 0) {
+                log.info("Pruned {} auction node(s) without a heartbeat since {}", pruned, cutoff);
+            }
+            for (AuctionNodeEntity node : nodeRepository.findAllByHeartbeatAtAfter(cutoff)) {
+                members.put(node.getNodeId(), node.getBaseUrl());
+            }
+        });
+        members.put(nodeId, properties.advertisedUrl());
+        baseUrls = Map.copyOf(members);
+
+        if (!members.keySet().equals(ring.nodes())) {
+            ring = new ConsistentHashRing(members.keySet(), properties.virtualNodes());
+            log.info("Auction cluster membership changed: {}", ring.nodes());
+            eventPublisher.publishEvent(new RingChanged(ring.nodes()));
+        }
+    }
+
+    /**
+     * Leave the cluster on shutdown so the other nodes take over without waiting for node-ttl
+     */
+    @PreDestroy
+    void leave() {
+        if (!properties.enabled()) {
+            return;
+        }
+        try {
+            nodeRepository.deleteById(nodeId);
+            log.info("Left auction cluster as {}", nodeId);
+        } catch (RuntimeException e) {
+            log.warn("Could not remove node {} from auction_nodes: {}", nodeId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.liveauction.auction.service;
+
+import com.liveauction.auction.dto.response.AuctionPageResponse;
+import com.liveauction.auction.dto.response.AuctionPageResponse.AuctioneerDetails;
+import com.liveauction.auction.dto.response.AuctionPageResponse.ItemDetails;
+import com.liveauction.auction.dto.response.AuctionResponsePublic;
+import com.liveauction.auction.entity.AuctionEntity;
+import com.liveauction.auction.entity.ItemSummaryEntity;
+import com.liveauction.auction.repository.AuctionRepository;
+import com.liveauction.shared.dto.response.ApiResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+@Service
+@Slf4j
+public class AuctionPageService {
+
+    private static final ParameterizedTypeReference<ApiResponse<ItemDetails>> ITEM_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiResponse<AuctioneerDetails>> USER_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+
+    // Context key of Reactor's per-subscription onErrorDropped hook (Hooks.KEY_ON_ERROR_DROPPED is package-private)
+    private static final String ON_ERROR_DROPPED = "reactor.onErrorDropped.local";
+
+    private final AuctionRepository auctionRepository;
+    private final ItemSummaryService itemSummaryService;
+    private final TrendingService trendingService;
+    private final LiveAuctionRegistry liveAuctionRegistry;
+    private final WebClient itemServiceClient;
+    private final WebClient userServiceClient;
+    private final Duration itemTimeout;
+    private final Duration userTimeout;
+
+    public AuctionPageService(
+            AuctionRepository auctionRepository,
+            ItemSummaryService itemSummaryService,
+            TrendingService trendingService,
+            LiveAuctionRegistry liveAuctionRegistry,
+            @Qualifier("itemServiceClient") WebClient itemServiceClient,
+            @Qualifier("userServiceClient") WebClient userServiceClient,
+            @Value("${app.services.item.timeout}") Duration itemTimeout,
+            @Value("${app.services.user.timeout}") Duration userTimeout
+    ) {
+        this.auctionRepository = auctionRepository;
+        this.itemSummaryService = itemSummaryService;
+        this.trendingService = trendingService;
+        this.liveAuctionRegistry = liveAuctionRegistry;
+        this.itemServiceClient = itemServiceClient;
+        this.userServiceClient = userServiceClient;
+        this.itemTimeout = itemTimeout;
+        this.userTimeout = userTimeout;
+    }
+
+    /**
+     * Build the auction detail page (public)
+     * - Load the auction locally
+     * - Fetch item and auctioneer details from their services in parallel,
+     *   so the wait is the slowest call instead of the sum
+     * - Each call has its own timeout; on timeout or error the item falls back
+     *   to the local item read model and the auctioneer to just its id
+     * - Fallbacks are reported in degraded, the page itself never fails on them
+     * - Views of ONGOING auctions count towards trending and the live view count
+     */
+    public AuctionPageResponse getAuctionPage(UUID auctionId) {
+        AuctionEntity auction = auctionRepository.findById(auctionId)
+                .orElseThrow(() -> new RuntimeException("Auction not found"));
+        if (auction.getStatus() == AuctionEntity.AuctionStatus.ONGOING) {
+            trendingService.recordView(auctionId);
+            liveAuctionRegistry.recordView(auctionId);
+        }
+        ItemSummaryEntity summary = itemSummaryService.find(auction.getItemId()).orElse(null);
+
+        Mono<Optional<ItemDetails>> item = fetch(
+                itemServiceClient, "/api/v1/items/{id}", auction.getItemId(), ITEM_RESPONSE, itemTimeout, "item");
+        Mono<Optional<AuctioneerDetails>> auctioneer = fetch(
+                userServiceClient, "/api/v1/users/{id}/public", auction.getAuctioneerId(), USER_RESPONSE, userTimeout, "auctioneer");
+
+        var results = Mono.zip(item, auctioneer).block();
+
+        List<String> degraded = new ArrayList<>();
+        ItemDetails itemDetails = results.getT1().orElse(null);
+        if (itemDetails == null) {
+            degraded.add("item");
+            itemDetails = summary == null ? null : new ItemDetails(
+                    summary.getId(),
+                    summary.getOwnerId(),
+                    summary.getName(),
+                    null,
+                    summary.getCategory(),
+                    summary.getCondition(),
+                    summary.getStartingPrice(),
+                    summary.getBidIncrement()
+            );
+        }
+        AuctioneerDetails auctioneerDetails = results.getT2().orElse(null);
+        if (auctioneerDetails == null) {
+            degraded.add("auctioneer");
+            auctioneerDetails = new AuctioneerDetails(auction.getAuctioneerId(), null, null);
+        }
+        return new AuctionPageResponse(
+                AuctionResponsePublic.fromEntity(auction, summary),
+                itemDetails,
+                auctioneerDetails,
+                degraded
+        );
+    }
+
+    private <T> Mono<Optional<T>> fetch(WebClient client, String uri, UUID id,
+                                        ParameterizedTypeReference<ApiResponse<T>> type,
+                                        Duration timeout, String part) {
+        return client.get()
+                .uri(uri, id)
+                .retrieve()
+                .bodyToMono(type)
+                .map(response -> Optional.ofNullable(response.data()))
+                .timeout(timeout)
+                .onErrorResume(e -> {
+                    log.warn("Falling back for {} {} of auction page: {}", part, id, e.toString());
+                    return Mono.just(Optional.empty());
+                })
+                .defaultIfEmpty(Optional.empty())
+                .contextWrite(Context.of(ON_ERROR_DROPPED, droppedAfterTimeout(part, id)));
+    }
+
+    /**
+     * A timeout cancels the exchange, and a response arriving after that fails on its
+     * already released body. The fallback is logged above, so that late failure is not
+     * an error; without this hook Reactor logs it as "Operator called default onErrorDropped".
+     */
+    private Consumer<Throwable> droppedAfterTimeout(String part, UUID id) {
+        return e -> log.debug("Dropped late response for {} {} of auction page: {}", part, id, e.toString());
+    }
+}
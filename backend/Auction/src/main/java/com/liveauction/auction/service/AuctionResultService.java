@@ -0,0 +1,64 @@
+package com.liveauction.auction.service;
+
+import com.liveauction.auction.entity.AuctionEntity;
+import com.liveauction.auction.repository.AuctionRepository;
+import com.liveauction.shared.events.AuctionEvents.AuctionCompletedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AuctionResultService {
+
+    private static final String NO_WINNER = "-1";
+
+    private final AuctionRepository auctionRepository;
+    private final ItemSummaryService itemSummaryService;
+    private final AuctionAnalyticsService auctionAnalyticsService;
+
+    /**
+     * Apply the bidding engine's close event to the auction
+     * - Set winner and winning bid when somebody bid
+     * - Mark COMPLETED, the scheduler may not have ended it yet
+     * - Add the outcome to the analytics in the same transaction
+     * - Ignore unknown and cancelled auctions and redelivered events; the row is locked
+     *   first, so a concurrent redelivery waits and then sees the result as applied
+     */
+    @Transactional
+    public void applyResult(AuctionCompletedEvent event) {
+        UUID auctionId = UUID.fromString(event.auctionId());
+        Optional<AuctionEntity> found = auctionRepository.findLockedById(auctionId);
+        if (found.isEmpty()) {
+            log.warn("Result received for unknown auction {}", auctionId);
+            return;
+        }
+        AuctionEntity auction = found.get();
+        if (auction.getResultReceivedAt() != null) {
+            log.debug("Result for auction {} already applied", auctionId);
+            return;
+        }
+        if (auction.getStatus() == AuctionEntity.AuctionStatus.CANCELLED) {
+            log.warn("Result received for cancelled auction {}, ignoring it", auctionId);
+            return;
+        }
+
+        if (event.winnerId() != null && !NO_WINNER.equals(event.winnerId()) && event.winningBidAmount() != null) {
+            auction.setWinnerId(UUID.fromString(event.winnerId()));
+            auction.setWinningBid(event.winningBidAmount());
+        }
+        auction.setStatus(AuctionEntity.AuctionStatus.COMPLETED);
+        auction.setResultReceivedAt(Instant.now());
+        auctionRepository.save(auction);
+        log.debug("Applied result for auction {}: winner {}", auctionId, auction.getWinnerId());
+
+        auctionAnalyticsService.record(AuctionAnalyticsService.outcomeOf(
+                auction, itemSummaryService.find(auction.getItemId()).orElse(null)));
+    }
+}
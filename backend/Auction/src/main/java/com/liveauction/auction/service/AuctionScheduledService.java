@@ -4,14 +4,25 @@ import com.liveauction.auction.entity.AuctionEntity;
 import com.liveauction.auction.event.producer.AuctionCreatedEventProducer;
 import com.liveauction.auction.repository.AuctionRepository;
 import com.liveauction.shared.events.AuctionEvents.AuctionCreatedEvent;
+import com.liveauction.shared.jfr.SchedulerTickEvent;
+import com.liveauction.shared.money.Money;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Service
 @RequiredArgsConstructor
@@ -20,72 +31,146 @@ public class AuctionScheduledService {
     
     private final AuctionRepository auctionRepository;
     private final AuctionCreatedEventProducer auctionCreatedEventProducer;
+    private final MeterRegistry meterRegistry;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${app.scheduler.batch-size:100}")
+    private int batchSize;
+
+    // Auctions found due on the last run of each job
+    private final AtomicInteger dueToStart = new AtomicInteger();
+    private final AtomicInteger dueToEnd = new AtomicInteger();
+
+    @PostConstruct
+    void registerGauges() {
+        meterRegistry.gauge("auction.transition.due", Tags.of("transition", "start"), dueToStart);
+        meterRegistry.gauge("auction.transition.due", Tags.of("transition", "end"), dueToEnd);
+    }
 
     /**
      * Check every 60 seconds for auctions that should start
      * SCHEDULED → ONGOING when startTime <= now
+     * - Due auctions are claimed in batches with FOR UPDATE SKIP LOCKED, one transaction
+     *   per batch, so every Auction instance can run this job without double starts
      */
     @Scheduled(fixedRate = 60000) // Every 60 seconds
-    @Transactional
     public void startAuctions() {
+        SchedulerTickEvent tick = new SchedulerTickEvent();
+        tick.begin();
         log.debug("Checking for auctions to start...");
         
         Instant now = Instant.now();
-        List<AuctionEntity> auctionsToStart = auctionRepository
-                .findAllByStatusAndStartTimeLessThanEqual(AuctionEntity.AuctionStatus.SCHEDULED, now);
-        
-        if (auctionsToStart.isEmpty()) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int started = 0;
+        String firstAuctionId = null;
+        while (true) {
+            List<AuctionEntity> batch = transaction.execute(status -> startBatch(now));
+            if (firstAuctionId == null && !batch.isEmpty()) {
+                firstAuctionId = batch.get(0).getId().toString();
+            }
+            started += batch.size();
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        dueToStart.set(started);
+        tick.job = "startAuctions";
+        tick.due = started;
+        tick.firstAuctionId = firstAuctionId;
+        tick.commit();
+
+        if (started == 0) {
             log.debug("No auctions to start");
             return;
         }
-        
+        log.info("Started {} auctions", started);
+    }
+
+    private List<AuctionEntity> startBatch(Instant now) {
+        List<AuctionEntity> auctionsToStart = auctionRepository.findAllByStatusAndStartTimeLessThanEqualOrderByStartTimeAsc(
+                AuctionEntity.AuctionStatus.SCHEDULED, now, Limit.of(batchSize));
         for (AuctionEntity auction : auctionsToStart) {
             auction.setStatus(AuctionEntity.AuctionStatus.ONGOING);
             auctionRepository.save(auction);
+            recordTransitionLag("start", auction.getStartTime(), now);
             log.info("✅ Auction STARTED: {} (ID: {})", auction.getTitle(), auction.getId());
 
             AuctionCreatedEvent event = new AuctionCreatedEvent(
                     auction.getId().toString(),
                     auction.getItemId().toString(),
                     auction.getAuctioneerId().toString(),
-                    auction.getStartingPrice() != null ? auction.getStartingPrice().doubleValue() : 0.0,
-                    auction.getReservePrice() != null ? auction.getReservePrice().doubleValue() : 0.0,
-                    auction.getBidIncrement() != null ? auction.getBidIncrement().doubleValue() : 0.0,
+                    auction.getStartingPrice() != null ? auction.getStartingPrice() : Money.ZERO,
+                    auction.getReservePrice() != null ? auction.getReservePrice() : Money.ZERO,
+                    auction.getBidIncrement() != null ? auction.getBidIncrement() : Money.ZERO,
                     auction.getStartTime(),
                     auction.getEndTime()
             );
             auctionCreatedEventProducer.auctionCreated(event);
         }
-        
-        log.info("Started {} auctions", auctionsToStart.size());
+        return auctionsToStart;
     }
 
     /**
      * Check every 60 seconds for auctions that should end
      * ONGOING → COMPLETED when endTime <= now
+     * - Claimed in batches with FOR UPDATE SKIP LOCKED, like startAuctions
      */
     @Scheduled(fixedRate = 60000) // Every 60 seconds
-    @Transactional
     public void endAuctions() {
+        SchedulerTickEvent tick = new SchedulerTickEvent();
+        tick.begin();
         log.debug("Checking for auctions to end...");
         
         Instant now = Instant.now();
-        List<AuctionEntity> auctionsToEnd = auctionRepository
-                .findAllByStatusAndEndTimeLessThanEqual(AuctionEntity.AuctionStatus.ONGOING, now);
-        
-        if (auctionsToEnd.isEmpty()) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        int ended = 0;
+        String firstAuctionId = null;
+        while (true) {
+            List<AuctionEntity> batch = transaction.execute(status -> endBatch(now));
+            if (firstAuctionId == null && !batch.isEmpty()) {
+                firstAuctionId = batch.get(0).getId().toString();
+            }
+            ended += batch.size();
+            if (batch.size() < batchSize) {
+                break;
+            }
+        }
+        dueToEnd.set(ended);
+        tick.job = "endAuctions";
+        tick.due = ended;
+        tick.firstAuctionId = firstAuctionId;
+        tick.commit();
+
+        if (ended == 0) {
             log.debug("No auctions to end");
             return;
         }
-        
+        log.info("Ended {} auctions", ended);
+    }
+
+    private List<AuctionEntity> endBatch(Instant now) {
+        List<AuctionEntity> auctionsToEnd = auctionRepository.findAllByStatusAndEndTimeLessThanEqualOrderByEndTimeAsc(
+                AuctionEntity.AuctionStatus.ONGOING, now, Limit.of(batchSize));
         for (AuctionEntity auction : auctionsToEnd) {
             auction.setStatus(AuctionEntity.AuctionStatus.COMPLETED);
             auctionRepository.save(auction);
+            recordTransitionLag("end", auction.getEndTime(), now);
             log.info("🏁 Auction ENDED: {} (ID: {})", auction.getTitle(), auction.getId());
             
-            // TODO V2: Winner determination will be done by Go Bidding Engine
+            // Winner and winning bid arrive with the bidding engine's close event (AuctionResultService)
         }
-        
-        log.info("Ended {} auctions", auctionsToEnd.size());
+        return auctionsToEnd;
+    }
+
+    /**
+     * How late a transition fired: fire time minus the scheduled start/end time
+     */
+    private void recordTransitionLag(String transition, Instant scheduledAt, Instant firedAt) {
+        Timer.builder("auction.transition.lag")
+                .tag("transition", transition)
+                .publishPercentileHistogram()
+                .maximumExpectedValue(Duration.ofMinutes(10))
+                .register(meterRegistry)
+                .record(Duration.between(scheduledAt, firedAt));
     }
 }
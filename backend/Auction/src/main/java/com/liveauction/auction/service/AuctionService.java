@@ -7,15 +7,19 @@ import com.liveauction.auction.dto.request.UpdateAuctionRequest;
 import com.liveauction.auction.dto.response.*;
 import com.liveauction.auction.entity.AuctionEntity;
 import com.liveauction.auction.entity.ItemClaimEntity;
+import com.liveauction.auction.entity.ItemSummaryEntity;
 import com.liveauction.auction.repository.AuctionRepository;
 import com.liveauction.auction.repository.ItemClaimRepository;
 import com.liveauction.shared.constants.PermissionConstants;
 import com.liveauction.shared.constants.RoleConstants;
+import com.liveauction.shared.money.Money;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,59 +28,69 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Timed(value = "auction.service", histogram = true)
 public class AuctionService {
     
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final ItemClaimRepository claimRepository;
     private final AuctionRepository auctionRepository;
+    private final ItemSummaryService itemSummaryService;
+    private final AuctionArchiveService auctionArchiveService;
 
     /**
      * Auctioneer claims an item
      * - Verify user has ROLE_AUCTIONEER
+     * - Resolve the item owner from the local item read model, backfilled from the
+     *   Item service for items not replicated yet; never from the request
      * - Create ItemClaimEntity with status PENDING
      * - Save and return
      */
     @Transactional
     public ClaimResponse claimItem(ClaimItemRequest request) {
         log.info("Claiming item: {}", request.itemId());
-        log.info("Item owner: {}", request.itemOwnerId());
-        log.info("Checking if a claim on this item by the same user already exists");
+        log.debug("Item owner: {}", request.itemOwnerId());
+        log.debug("Checking if a claim on this item by the same user already exists");
         if(claimRepository.existsByItemIdAndAuctioneerId(
                 request.itemId(),
                 getCurrentUserId()
-        )){
+        ) || auctionArchiveService.hasArchivedClaim(request.itemId(), getCurrentUserId())){
             log.error("A claim on this item by the same user already exists");
             throw new RuntimeException("You have already claimed this item");
         }
 
-        if(claimRepository.existsByItemIdAndStatus(request.itemId(), ItemClaimEntity.ClaimStatus.APPROVED)){
+        if(claimRepository.existsByItemIdAndStatus(request.itemId(), ItemClaimEntity.ClaimStatus.APPROVED)
+                || auctionArchiveService.hasArchivedApprovedClaim(request.itemId())){
             throw new RuntimeException("This item is already claimed");
         }
 
-        log.info("Checking if current user is an auctioneer and rejecting request if they are not");
+        log.debug("Checking if current user is an auctioneer and rejecting request if they are not");
         String permissionToClaimItem = PermissionConstants.CLAIM_ITEM;
         if(!getCurrentUserRoles().contains(permissionToClaimItem)){
             log.error("Current user is not an auctioneer");
             throw new RuntimeException("User does not have auctioneer role");
         }
-        log.info("By auctioneer: {}", getCurrentUserId());
+        log.debug("By auctioneer: {}", getCurrentUserId());
         UUID userId = getCurrentUserId();
-        log.info("Creating ItemClaimEntity with PENDING status");
+        UUID itemOwnerId = resolveItemOwner(request, userId);
+        log.debug("Creating ItemClaimEntity with PENDING status");
         ItemClaimEntity itemClaim = ItemClaimEntity
                 .builder()
                 .itemId(request.itemId())
-                .itemOwnerId(request.itemOwnerId())
+                .itemOwnerId(itemOwnerId)
                 .auctioneerId(userId)
                 .auctioneerMessage(request.auctioneerMessage())
                 .status(ItemClaimEntity.ClaimStatus.PENDING)
                 .build();
-        log.info("Saving claim to repository");
+        log.debug("Saving claim to repository");
         itemClaim = claimRepository.save(itemClaim);
-        log.info("Returning ClaimResponse");
+        log.debug("Returning ClaimResponse");
         return ClaimResponse.fromEntity(itemClaim);
     }
 
@@ -92,24 +106,24 @@ public class AuctionService {
     @Transactional
     public ClaimResponse reviewClaim(UUID claimId, ReviewClaimRequest request) {
         log.info("Reviewing claim: {}", claimId);
-        log.info("Checking to see if claim exists");
+        log.debug("Checking to see if claim exists");
         ItemClaimEntity claim = claimRepository.findById(claimId)
                 .orElseThrow(() -> new RuntimeException("Claim not found"));
-        log.info("Verifying current user is the item owner");
+        log.debug("Verifying current user is the item owner");
         if(!getCurrentUserId().equals(claim.getItemOwnerId())){
             log.error("Current user is not the item owner");
             throw new RuntimeException("User is not the item owner");
         }
-        log.info("Verifying claim status is PENDING");
+        log.debug("Verifying claim status is PENDING");
         if(claim.getStatus() != ItemClaimEntity.ClaimStatus.PENDING){
             log.error("Claim status is not PENDING");
             throw new RuntimeException("Claim is not in PENDING status");
         }
         if(request.approve()){
-            log.info("Approving claim");
+            log.debug("Approving claim");
             claim.setStatus(ItemClaimEntity.ClaimStatus.APPROVED);
             claim.setSellerMessage(request.sellerMessage());
-            log.info("Rejecting all other pending claims for the same item");
+            log.debug("Rejecting all other pending claims for the same item");
             List<ItemClaimEntity> otherClaims = claimRepository.findByItemIdAndStatus(
                     claim.getItemId(),
                     ItemClaimEntity.ClaimStatus.PENDING
@@ -123,14 +137,14 @@ public class AuctionService {
                 }
             }
         } else {
-            log.info("Rejecting claim");
+            log.debug("Rejecting claim");
             claim.setStatus(ItemClaimEntity.ClaimStatus.REJECTED);
             claim.setSellerMessage(request.sellerMessage());
         }
         claim.setReviewedAt(Instant.now());
-        log.info("Saving reviewed claim to repository");
+        log.debug("Saving reviewed claim to repository");
         claim =  claimRepository.save(claim);
-        log.info("Returning ClaimResponse");
+        log.debug("Returning ClaimResponse");
         return ClaimResponse.fromEntity(claim);
     }
 
@@ -146,47 +160,47 @@ public class AuctionService {
     @Transactional
     public AuctionResponse createAuction(UUID claimId, CreateAuctionRequest request) {
         log.info("Creating auction from claim: {}", claimId);
-        log.info("Checking if current user has role auctioneer");
+        log.debug("Checking if current user has role auctioneer");
         String createAuctionPermission = PermissionConstants.CREATE_AUCTION;
         if(!getCurrentUserRoles().contains(createAuctionPermission)){
             log.error("Current user does not have auctioneer role");
             throw new RuntimeException("User does not have auctioneer role");
         }
-        log.info("Checking if the current user is the auction owner");
+        log.debug("Checking if the current user is the auction owner");
         UUID userId = getCurrentUserId();
-        log.info("Finding claim by ID");
+        log.debug("Finding claim by ID");
         ItemClaimEntity claim = claimRepository.findById(claimId)
                 .orElseThrow(() -> new RuntimeException("Claim not found"));
         if(!claim.getAuctioneerId().equals(userId)){
             log.error("Current user is not the auctioneer who made the claim");
             throw new RuntimeException("User is not the auctioneer who made the claim");
         }
-        log.info("Verifying claim is APPROVED");
+        log.debug("Verifying claim is APPROVED");
         if(claim.getStatus() != ItemClaimEntity.ClaimStatus.APPROVED){
             log.error("Claim is not APPROVED");
             throw new RuntimeException("Claim is not APPROVED");
         }
-        log.info("Validating endTime is after startTime");
+        log.debug("Validating endTime is after startTime");
         if(Duration.between(request.startTime() , request.endTime()).getSeconds() < 10800){
             log.error("endTime must be at least 3 hours after startTime");
             throw new RuntimeException("Every auction must be at least 3 hours long");
         }
-        log.info("Creating AuctionEntity with SCHEDULED status");
+        log.debug("Creating AuctionEntity with SCHEDULED status");
         AuctionEntity auction = AuctionEntity
                 .builder()
                 .title(request.title())
                 .itemId(claim.getItemId())
                 .auctioneerId(userId)
                 .claimId(claimId)
-                .startingPrice(request.startingPrice())
-                .reservePrice(request.reservePrice())
-                .bidIncrement(request.bidIncrement())
+                .startingPrice(Money.of(request.startingPrice()))
+                .reservePrice(Money.of(request.reservePrice()))
+                .bidIncrement(Money.of(request.bidIncrement()))
                 .startTime(request.startTime())
                 .endTime(request.endTime())
                 .build();
-        log.info("Saving auction to repository");
+        log.debug("Saving auction to repository");
         auction = auctionRepository.save(auction);
-        log.info("Returning AuctionResponse");
+        log.debug("Returning AuctionResponse");
         return AuctionResponse.fromEntity(auction);
     }
 
@@ -208,33 +222,33 @@ public class AuctionService {
             log.error("Current user does not have permission to edit auctions");
             throw new RuntimeException("User does not have permission to edit auctions");
         }
-        log.info("Verifying its a scheduled auction that can be updated");
+        log.debug("Verifying its a scheduled auction that can be updated");
         if(!auction.getStatus().equals(AuctionEntity.AuctionStatus.SCHEDULED)){
             log.error("Auction status is not SCHEDULED");
             throw new RuntimeException("Only SCHEDULED auctions can be updated");
         }
-        log.info("Verifying if auction starts within the next 3 hours and if so, it cannot be edited");
+        log.debug("Verifying if auction starts within the next 3 hours and if so, it cannot be edited");
         if(Duration.between(Instant.now() , auction.getStartTime()).toHours() < 3){
             log.error("Auction starts within the next 3 hours and cannot be edited");
             throw new RuntimeException("Auctions starting within 3 hours cannot be edited");
         }
-        log.info("Verifying current user is the auctioneer");
+        log.debug("Verifying current user is the auctioneer");
         if(!getCurrentUserId().equals(auction.getAuctioneerId())){
             log.error("Current user is not the auctioneer");
             throw new RuntimeException("User is not the auctioneer");
         }
-        log.info("Checking if the new start time and new end times still have a 3 hour gap");
+        log.debug("Checking if the new start time and new end times still have a 3 hour gap");
         if(Duration.between(request.startTime() , request.endTime()).toSeconds() < 10800){
-            log.info("endTime must be at least 3 hours after startTime");
+            log.debug("endTime must be at least 3 hours after startTime");
             throw new RuntimeException("Every auction must be at least 3 hours long");
         }
-        log.info("All security measures take, proceeding to update auction details");
+        log.debug("All security measures take, proceeding to update auction details");
         auction.setTitle(request.title());
         auction.setStartTime(request.startTime());
         auction.setEndTime(request.endTime());
-        log.info("Saving updated auction to repository");
+        log.debug("Saving updated auction to repository");
         auction = auctionRepository.save(auction);
-        log.info("Returning AuctionResponse");
+        log.debug("Returning AuctionResponse");
         return AuctionResponse.fromEntity(auction);
     }
 
@@ -272,7 +286,7 @@ public class AuctionService {
             throw new RuntimeException("Cannot cancel auctions starting within 3 hours");
         }
 
-        log.info("Canceling auction: {}", auctionId);
+        log.debug("Canceling auction: {}", auctionId);
         auction.setStatus(AuctionEntity.AuctionStatus.CANCELLED);
         claimRepository.deleteById(auction.getClaimId());
 
@@ -282,7 +296,9 @@ public class AuctionService {
 
     /**
      * List auctions by current auctioneer
+     * - Not read-only, so it runs on the primary and the auctioneer sees an auction they just created
      */
+    @Transactional
     public List<AuctionResponsePartial> listMyAuctions() {
         if(!getCurrentUserRoles().contains(PermissionConstants.VIEW_AUCTION)){
             log.error("Current user does not have permission to view auctions");
@@ -300,34 +316,77 @@ public class AuctionService {
      * Get auction details (auctioneer only)
      */
     public AuctionResponse getAuctionDetails(UUID auctionId) {
-        AuctionEntity auction = auctionRepository
+        AuctionResponse auction = auctionRepository
                 .findById(auctionId)
+                .map(AuctionResponse::fromEntity)
+                .or(() -> auctionArchiveService.findArchivedAuction(auctionId))
                 .orElseThrow(() -> new RuntimeException("Auction not found"));
-        if(!auction.getAuctioneerId().equals(getCurrentUserId())){
+        if(!auction.auctioneerId().equals(getCurrentUserId())){
             log.error("Current user is not the auctioneer");
             throw new RuntimeException("User is not the auctioneer");
         }
-        return AuctionResponse.fromEntity(auction);
+        return auction;
     }
 
     /**
      * Get public auction details (anyone)
+     * - Read-only, so it may run on the replica; views are recorded by the caller
      */
+    @Transactional(readOnly = true)
     public AuctionResponsePublic getPublicAuctionDetails(UUID auctionId) {
-        AuctionEntity auction = auctionRepository
-                .findById(auctionId)
+        Optional<AuctionEntity> auction = auctionRepository.findById(auctionId);
+        if (auction.isPresent()) {
+            ItemSummaryEntity item = itemSummaryService.find(auction.get().getItemId()).orElse(null);
+            return AuctionResponsePublic.fromEntity(auction.get(), item);
+        }
+        AuctionResponse archived = auctionArchiveService.findArchivedAuction(auctionId)
                 .orElseThrow(() -> new RuntimeException("Auction not found"));
-        return AuctionResponsePublic.fromEntity(auction);
+        ItemSummaryEntity item = itemSummaryService.find(archived.itemId()).orElse(null);
+        return AuctionResponsePublic.fromArchived(archived, item);
+    }
+
+    /**
+     * List the current auctioneer's archived auctions (COMPLETED/CANCELLED past retention)
+     */
+    public List<AuctionResponse> listMyArchivedAuctions() {
+        if(!getCurrentUserRoles().contains(PermissionConstants.VIEW_AUCTION)){
+            log.error("Current user does not have permission to view auctions");
+            throw new RuntimeException("User does not have permission to view auctions");
+        }
+        return auctionArchiveService.listArchivedAuctions(getCurrentUserId());
     }
 
     /**
      * List auctions by status (public - for browsing)
+     * - Item details come from the local item read model, loaded with one query
      */
+    @Transactional(readOnly = true)
     public List<AuctionResponsePublic> listAuctionsByStatus(AuctionEntity.AuctionStatus status) {
         List<AuctionEntity> auctions = auctionRepository.findAllByStatus(status)
                 .orElse(new ArrayList<>());
+        return toPublicResponses(auctions);
+    }
+
+    /**
+     * Get one page of auctions by status (anyone)
+     * - Keyset pagination on the time-ordered id: pass the last id of a page as after
+     * - Served by the (status, id) index, cost does not grow with the page number
+     */
+    @Transactional(readOnly = true)
+    public List<AuctionResponsePublic> listAuctionsByStatus(AuctionEntity.AuctionStatus status, UUID after, int limit) {
+        Limit pageLimit = Limit.of(Math.min(Math.max(limit, 1), MAX_PAGE_SIZE));
+        List<AuctionEntity> auctions = after == null
+                ? auctionRepository.findAllByStatusOrderByIdAsc(status, pageLimit)
+                : auctionRepository.findAllByStatusAndIdGreaterThanOrderByIdAsc(status, after, pageLimit);
+        return toPublicResponses(auctions);
+    }
+
+    private List<AuctionResponsePublic> toPublicResponses(List<AuctionEntity> auctions) {
+        Map<UUID, ItemSummaryEntity> items = itemSummaryService.findAll(
+                auctions.stream().map(AuctionEntity::getItemId).distinct().toList()
+        );
         return auctions.stream()
-                .map(AuctionResponsePublic::fromEntity)
+                .map(auction -> AuctionResponsePublic.fromEntity(auction, items.get(auction.getItemId())))
                 .toList();
     }
 
@@ -352,6 +411,21 @@ public class AuctionService {
     }
 
     // Helper methods
+    private UUID resolveItemOwner(ClaimItemRequest request, UUID auctioneerId) {
+        ItemSummaryEntity item = itemSummaryService.findOrBackfill(request.itemId())
+                .orElseThrow(() -> new RuntimeException("Item not found or not available for claiming"));
+        if (!"APPROVED".equals(item.getStatus())) {
+            throw new RuntimeException("Item is not available for claiming");
+        }
+        if (item.getOwnerId().equals(auctioneerId)) {
+            throw new RuntimeException("You cannot claim your own item");
+        }
+        if (request.itemOwnerId() != null && !request.itemOwnerId().equals(item.getOwnerId())) {
+            throw new RuntimeException("Item owner does not match");
+        }
+        return item.getOwnerId();
+    }
+
     private UUID getCurrentUserId() {
         Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
         if (principal instanceof UUID) {
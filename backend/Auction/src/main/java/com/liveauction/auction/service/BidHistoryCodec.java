@@ -0,0 +1,174 @@
+package com.liveauction.auction.service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Columnar encoding of one auction's bid history.
+ *
+ * Layout (all integers are unsigned LEB128 varints unless noted):
+ *   version (1 byte)
+ *   bid count
+ *   bidder dictionary size, then each bidder UUID as 16 raw bytes
+ *   byte length of the time column, byte length of the amount column
+ *   time column:   placedAt in epoch micros, zigzag delta from the previous bid
+ *   amount column: amount in cents, zigzag delta from the previous bid
+ *   bidder column: dictionary index per bid
+ *
+ * Accepted bids are increasing in time and amount, so the deltas stay a few
+ * bytes each and a bid usually costs 4 to 6 bytes instead of a table row.
+ */
+public final class BidHistoryCodec {
+
+    private static final byte VERSION = 1;
+
+    public record Bid(UUID bidderId, long amountCents, Instant placedAt) {
+    }
+
+    private BidHistoryCodec() {
+    }
+
+    public static byte[] encode(List<Bid> bids) {
+        Map<UUID, Integer> dictionary = new LinkedHashMap<>();
+        ByteArrayOutputStream times = new ByteArrayOutputStream();
+        ByteArrayOutputStream amounts = new ByteArrayOutputStream();
+        ByteArrayOutputStream bidders = new ByteArrayOutputStream();
+
+        long previousTime = 0;
+        long previousAmount = 0;
+        for (Bid bid : bids) {
+            long time = toMicros(bid.placedAt());
+            writeVarint(times, zigzag(time - previousTime));
+            writeVarint(amounts, zigzag(bid.amountCents() - previousAmount));
+            writeVarint(bidders, dictionary.computeIfAbsent(bid.bidderId(), id -> dictionary.size()));
+            previousTime = time;
+            previousAmount = bid.amountCents();
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream(
+                32 + dictionary.size() * 16 + times.size() + amounts.size() + bidders.size());
+        out.write(VERSION);
+        writeVarint(out, bids.size());
+        writeVarint(out, dictionary.size());
+        ByteBuffer uuid = ByteBuffer.allocate(16);
+        for (UUID bidderId : dictionary.keySet()) {
+            uuid.clear();
+            uuid.putLong(bidderId.getMostSignificantBits()).putLong(bidderId.getLeastSignificantBits());
+            out.write(uuid.array(), 0, 16);
+        }
+        writeVarint(out, times.size());
+        writeVarint(out, amounts.size());
+        out.writeBytes(times.toByteArray());
+        out.writeBytes(amounts.toByteArray());
+        out.writeBytes(bidders.toByteArray());
+        return out.toByteArray();
+    }
+
+    /**
+     * Decode bids one at a time; only the bidder dictionary is materialized up front.
+     */
+    public static Iterator<Bid> decode(byte[] chunk) {
+        return new Decoder(chunk);
+    }
+
+    private static final class Decoder implements Iterator<Bid> {
+        private final byte[] chunk;
+        private final int count;
+        private final UUID[] dictionary;
+        private final int[] cursor = new int[1];
+        private int timePosition;
+        private int amountPosition;
+        private int bidderPosition;
+        private int decoded;
+        private long time;
+        private long amount;
+
+        private Decoder(byte[] chunk) {
+            this.chunk = chunk;
+            if (chunk.length == 0 || chunk[0] != VERSION) {
+                throw new IllegalArgumentException("Unsupported bid history chunk version");
+            }
+            cursor[0] = 1;
+            count = (int) readVarint(chunk, cursor);
+            dictionary = new UUID[(int) readVarint(chunk, cursor)];
+            ByteBuffer buffer = ByteBuffer.wrap(chunk);
+            for (int i = 0; i < dictionary.length; i++) {
+                dictionary[i] = new UUID(buffer.getLong(cursor[0]), buffer.getLong(cursor[0] + 8));
+                cursor[0] += 16;
+            }
+            int timeLength = (int) readVarint(chunk, cursor);
+            int amountLength = (int) readVarint(chunk, cursor);
+            timePosition = cursor[0];
+            amountPosition = timePosition + timeLength;
+            bidderPosition = amountPosition + amountLength;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return decoded < count;
+        }
+
+        @Override
+        public Bid next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            cursor[0] = timePosition;
+            time += unzigzag(readVarint(chunk, cursor));
+            timePosition = cursor[0];
+
+            cursor[0] = amountPosition;
+            amount += unzigzag(readVarint(chunk, cursor));
+            amountPosition = cursor[0];
+
+            cursor[0] = bidderPosition;
+            UUID bidderId = dictionary[(int) readVarint(chunk, cursor)];
+            bidderPosition = cursor[0];
+
+            decoded++;
+            return new Bid(bidderId, amount, fromMicros(time));
+        }
+    }
+
+    private static long toMicros(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000);
+    }
+
+    private static Instant fromMicros(long micros) {
+        return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarint(byte[] bytes, int[] cursor) {
+        long value = 0;
+        int shift = 0;
+        while (true) {
+            byte b = bytes[cursor[0]++];
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+            shift += 7;
+            if (shift > 63) {
+                throw new IllegalArgumentException("Malformed varint in bid history chunk");
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.liveauction.auction.service;
+
+import com.liveauction.auction.dto.response.BidHistoryEntryResponse;
+import com.liveauction.auction.entity.AuctionBidHistoryEntity;
+import com.liveauction.auction.repository.AuctionBidHistoryRepository;
+import com.liveauction.shared.events.AuctionEvents.AuctionBidHistoryEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BidHistoryService {
+
+    private final AuctionBidHistoryRepository bidHistoryRepository;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Compact the bid history of a closed auction into one columnar chunk
+     * - Called once per auction when the bidding engine closes the room
+     * - Redelivered events are ignored, the first stored history wins
+     * - Amounts are stored in cents
+     */
+    @Transactional
+    public void store(AuctionBidHistoryEvent event) {
+        UUID auctionId = UUID.fromString(event.auctionId());
+        if (bidHistoryRepository.existsById(auctionId)) {
+            log.debug("Bid history for auction {} already stored", auctionId);
+            return;
+        }
+
+        List<BidHistoryCodec.Bid> bids = event.bids() == null ? List.of() : event.bids().stream()
+                .map(bid -> new BidHistoryCodec.Bid(
+                        UUID.fromString(bid.bidderId()),
+                        bid.amount().cents(),
+                        bid.placedAt()))
+                .toList();
+        byte[] chunk = BidHistoryCodec.encode(bids);
+
+        bidHistoryRepository.save(AuctionBidHistoryEntity.builder()
+                .auctionId(auctionId)
+                .bidCount(bids.size())
+                .firstBidAt(bids.isEmpty() ? null : bids.get(0).placedAt())
+                .lastBidAt(bids.isEmpty() ? null : bids.get(bids.size() - 1).placedAt())
+                .createdAt(Instant.now())
+                .chunk(chunk)
+                .build());
+        meterRegistry.counter("bid.history.bytes").increment(chunk.length);
+        log.debug("Stored {} bids for auction {} in {} bytes", bids.size(), auctionId, chunk.length);
+    }
+
+    /**
+     * Bid history of a closed auction in the order the bids were accepted
+     * - The chunk is loaded with a single row read, bids are decoded lazily while iterating
+     */
+    @Transactional(readOnly = true)
+    public Iterator<BidHistoryEntryResponse> openHistory(UUID auctionId) {
+        AuctionBidHistoryEntity history = bidHistoryRepository.findById(auctionId)
+                .orElseThrow(() -> new RuntimeException("Bid history not found"));
+        Iterator<BidHistoryCodec.Bid> bids = BidHistoryCodec.decode(history.getChunk());
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return bids.hasNext();
+            }
+
+            @Override
+            public BidHistoryEntryResponse next() {
+                return BidHistoryEntryResponse.fromBid(bids.next());
+            }
+        };
+    }
+}
@@ -0,0 +1,246 @@
+package com.liveauction.auction.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.liveauction.auction.entity.IdempotencyRecordEntity;
+import com.liveauction.auction.repository.IdempotencyRecordRepository;
+import com.liveauction.shared.dto.response.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.idempotency.cache-size:10000}")
+    private int cacheSize;
+
+    @Value("${app.idempotency.ttl:PT24H}")
+    private Duration ttl;
+
+    @Value("${app.idempotency.lease:PT30S}")
+    private Duration lease;
+
+    // Completed responses by "userId|key", least recently used evicted first
+    private final Map<String, CachedResponse> cache = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+            return size() > cacheSize;
+        }
+    };
+
+    /**
+     * Run a POST at most once per Idempotency-Key and caller
+     * - No key: run the action as usual
+     * - Key seen before and completed: replay the stored response (cache first, then DB)
+     * - Key still in progress: 409, the client should retry later
+     * - Key in progress for longer than the lease (the node died mid-request): taken over and run again
+     * - Key used on another route or with another request body: 422
+     * - Action throws: the key is released so a retry can run it again
+     */
+    public <T> ResponseEntity<ApiResponse<T>> execute(
+            String idempotencyKey,
+            String route,
+            Object request,
+            Class<T> dataType,
+            Supplier<ResponseEntity<ApiResponse<T>>> action
+    ) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > 100) {
+            return rejected(HttpStatus.BAD_REQUEST, HEADER + " must be 1 to 100 characters");
+        }
+
+        UUID userId = getCurrentUserId();
+        String cacheKey = userId + "|" + idempotencyKey;
+        String requestHash = fingerprint(route, request);
+
+        CachedResponse cached = cacheGet(cacheKey);
+        if (cached != null) {
+            log.debug("Replaying cached response for idempotency key {}", idempotencyKey);
+            return replay(cached, route, requestHash, dataType);
+        }
+
+        IdempotencyRecordEntity record;
+        try {
+            record = idempotencyRecordRepository.saveAndFlush(IdempotencyRecordEntity.builder()
+                    .userId(userId)
+                    .idempotencyKey(idempotencyKey)
+                    .route(route)
+                    .requestHash(requestHash)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            IdempotencyRecordEntity existing = idempotencyRecordRepository
+                    .findByUserIdAndIdempotencyKey(userId, idempotencyKey)
+                    .orElse(null);
+            if (existing == null) {
+                return rejected(HttpStatus.CONFLICT, "Request with this " + HEADER + " is being processed");
+            }
+            String mismatch = mismatch(existing.getRoute(), existing.getRequestHash(), route, requestHash);
+            if (mismatch != null) {
+                return rejected(HttpStatus.UNPROCESSABLE_ENTITY, mismatch);
+            }
+            if (existing.getStatus() == IdempotencyRecordEntity.RecordStatus.COMPLETED) {
+                return replayStored(existing, cacheKey, route, requestHash, dataType);
+            }
+            Instant now = Instant.now();
+            if (idempotencyRecordRepository.takeOver(existing.getId(), now.minus(lease), now) == 0) {
+                return rejected(HttpStatus.CONFLICT, "Request with this " + HEADER + " is being processed");
+            }
+            log.warn("Taking over idempotency key {}, its request did not finish within {}", idempotencyKey, lease);
+            record = existing;
+        }
+
+        ResponseEntity<ApiResponse<T>> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            idempotencyRecordRepository.delete(record);
+            throw e;
+        }
+
+        String body = serialize(response.getBody());
+        record.setStatus(IdempotencyRecordEntity.RecordStatus.COMPLETED);
+        record.setHttpStatus(response.getStatusCode().value());
+        record.setResponseBody(body);
+        idempotencyRecordRepository.save(record);
+        cachePut(cacheKey, new CachedResponse(route, requestHash, response.getStatusCode().value(), body, Instant.now()));
+        return response;
+    }
+
+    /**
+     * Drop records and cached responses older than the TTL
+     */
+    @Scheduled(fixedDelayString = "${app.idempotency.cleanup-interval:PT1H}")
+    @Transactional
+    public void purgeExpired() {
+        Instant cutoff = Instant.now().minus(ttl);
+        int deleted = idempotencyRecordRepository.deleteCreatedBefore(cutoff);
+        synchronized (cache) {
+            cache.values().removeIf(response -> response.storedAt().isBefore(cutoff));
+        }
+        if (deleted > 0) {
+            log.info("Purged {} expired idempotency records", deleted);
+        }
+    }
+
+    private <T> ResponseEntity<ApiResponse<T>> replayStored(
+            IdempotencyRecordEntity existing, String cacheKey, String route, String requestHash, Class<T> dataType
+    ) {
+        CachedResponse stored = new CachedResponse(existing.getRoute(), existing.getRequestHash(),
+                existing.getHttpStatus(), existing.getResponseBody(), existing.getCreatedAt());
+        cachePut(cacheKey, stored);
+        log.debug("Replaying stored response for idempotency key {}", existing.getIdempotencyKey());
+        return replay(stored, route, requestHash, dataType);
+    }
+
+    private <T> ResponseEntity<ApiResponse<T>> replay(CachedResponse cached, String route, String requestHash, Class<T> dataType) {
+        String mismatch = mismatch(cached.route(), cached.requestHash(), route, requestHash);
+        if (mismatch != null) {
+            return rejected(HttpStatus.UNPROCESSABLE_ENTITY, mismatch);
+        }
+        JavaType type = objectMapper.getTypeFactory().constructParametricType(ApiResponse.class, dataType);
+        try {
+            ApiResponse<T> body = objectMapper.readValue(cached.body(), type);
+            return ResponseEntity.status(cached.status()).header(REPLAYED_HEADER, "true").body(body);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Stored idempotent response cannot be read", e);
+        }
+    }
+
+    private <T> ResponseEntity<ApiResponse<T>> rejected(HttpStatus status, String message) {
+        return ResponseEntity.status(status).body(ApiResponse.error(message));
+    }
+
+    /**
+     * Why a stored key cannot be replayed for this request, or null when it can
+     */
+    private String mismatch(String storedRoute, String storedHash, String route, String requestHash) {
+        if (!storedRoute.equals(route)) {
+            return HEADER + " was already used for " + storedRoute;
+        }
+        if (storedHash != null && !storedHash.equals(requestHash)) {
+            return HEADER + " was already used with a different request body";
+        }
+        return null;
+    }
+
+    private String fingerprint(String route, Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(route.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) '\n');
+            digest.update(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new RuntimeException("Request cannot be fingerprinted for " + HEADER, e);
+        }
+    }
+
+    private String serialize(Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Response cannot be stored for idempotent replay", e);
+        }
+    }
+
+    private CachedResponse cacheGet(String cacheKey) {
+        synchronized (cache) {
+            return cache.get(cacheKey);
+        }
+    }
+
+    private void cachePut(String cacheKey, CachedResponse response) {
+        synchronized (cache) {
+            cache.put(cacheKey, response);
+        }
+    }
+
+    /**
+     * Helper: Get current authenticated user ID
+     */
+    private UUID getCurrentUserId() {
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        if (principal instanceof UUID) {
+            return (UUID) principal;
+        }
+        throw new RuntimeException("No authenticated user found");
+    }
+
+    private record CachedResponse(
+            String route,
+            String requestHash,
+            int status,
+            String body,
+            Instant storedAt
+    ) {}
+}
@@ -0,0 +1,128 @@
+package com.liveauction.auction.service;
+
+import com.liveauction.auction.dto.response.AuctionPageResponse.ItemDetails;
+import com.liveauction.auction.entity.ItemSummaryEntity;
+import com.liveauction.auction.repository.ItemSummaryRepository;
+import com.liveauction.shared.dto.response.ApiResponse;
+import com.liveauction.shared.money.Money;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@Slf4j
+public class ItemSummaryService {
+
+    private static final ParameterizedTypeReference<ApiResponse<List<ItemDetails>>> ITEMS_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+
+    private final ItemSummaryRepository itemSummaryRepository;
+    private final WebClient itemServiceClient;
+    private final Duration itemTimeout;
+
+    public ItemSummaryService(
+            ItemSummaryRepository itemSummaryRepository,
+            @Qualifier("itemServiceClient") WebClient itemServiceClient,
+            @Value("${app.services.item.timeout}") Duration itemTimeout
+    ) {
+        this.itemSummaryRepository = itemSummaryRepository;
+        this.itemServiceClient = itemServiceClient;
+        this.itemTimeout = itemTimeout;
+    }
+
+    /**
+     * Apply an item snapshot from the Item service
+     * - Insert the summary if this item is new
+     * - Skip the snapshot if the stored one is newer (events can arrive out of order)
+     * - Otherwise overwrite the stored summary
+     */
+    @Transactional
+    public void apply(String itemId, String ownerId, String name, String category, String condition,
+                      String status, Money startingPrice, Money bidIncrement, Instant updatedAt) {
+        UUID id = UUID.fromString(itemId);
+        ItemSummaryEntity summary = itemSummaryRepository.findById(id)
+                .orElseGet(() -> ItemSummaryEntity.builder().id(id).build());
+        if (summary.getSourceUpdatedAt() != null && summary.getSourceUpdatedAt().isAfter(updatedAt)) {
+            log.debug("Ignoring stale snapshot of item {}", id);
+            return;
+        }
+        summary.setOwnerId(UUID.fromString(ownerId));
+        summary.setName(name);
+        summary.setCategory(category);
+        summary.setCondition(condition);
+        summary.setStatus(status);
+        summary.setStartingPrice(startingPrice);
+        summary.setBidIncrement(bidIncrement);
+        summary.setSourceUpdatedAt(updatedAt);
+        itemSummaryRepository.save(summary);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ItemSummaryEntity> find(UUID itemId) {
+        return itemSummaryRepository.findById(itemId);
+    }
+
+    /**
+     * Summary of an item, backfilled from the Item service when it is not replicated yet
+     * - Items created before the read model existed never had an event, their first lookup copies them
+     * - The Item service only returns APPROVED items; empty when the item is unknown,
+     *   not approved or the Item service cannot be reached
+     * - The copy is stamped with the epoch, so any item event overwrites it
+     */
+    @Transactional
+    public Optional<ItemSummaryEntity> findOrBackfill(UUID itemId) {
+        Optional<ItemSummaryEntity> summary = itemSummaryRepository.findById(itemId);
+        if (summary.isPresent()) {
+            return summary;
+        }
+        ItemDetails item = fetchApproved(itemId);
+        if (item == null) {
+            return Optional.empty();
+        }
+        log.info("Backfilling item {} into the local read model", itemId);
+        apply(itemId.toString(), item.itemOwnerId().toString(), item.name(), item.category(), item.condition(),
+                "APPROVED", item.startingPrice(), item.bidIncrement(), Instant.EPOCH);
+        return itemSummaryRepository.findById(itemId);
+    }
+
+    private ItemDetails fetchApproved(UUID itemId) {
+        try {
+            ApiResponse<List<ItemDetails>> response = itemServiceClient.post()
+                    .uri("/api/v1/items/batch")
+                    .bodyValue(Map.of("itemIds", List.of(itemId)))
+                    .retrieve()
+                    .bodyToMono(ITEMS_RESPONSE)
+                    .block(itemTimeout);
+            List<ItemDetails> items = response == null ? null : response.data();
+            return items == null || items.isEmpty() ? null : items.get(0);
+        } catch (RuntimeException e) {
+            log.warn("Could not look up item {} in the Item service: {}", itemId, e.toString());
+            return null;
+        }
+    }
+
+    /**
+     * Load the summaries of many items with one IN query, keyed by item id
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, ItemSummaryEntity> findAll(Collection<UUID> itemIds) {
+        Map<UUID, ItemSummaryEntity> summaries = new HashMap<>();
+        for (ItemSummaryEntity summary : itemSummaryRepository.findAllById(itemIds)) {
+            summaries.put(summary.getId(), summary);
+        }
+        return summaries;
+    }
+}
@@ -0,0 +1,312 @@
+package com.liveauction.auction.service;
+
+import com.liveauction.auction.dto.response.LiveAuctionResponse;
+import com.liveauction.auction.entity.AuctionEntity;
+import com.liveauction.auction.entity.AuctionLiveStateEntity;
+import com.liveauction.auction.repository.AuctionLiveStateRepository;
+import com.liveauction.auction.repository.AuctionRepository;
+import com.liveauction.shared.money.Money;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory live state (highest bid, bid count, views) of the ONGOING auctions this node owns.
+ * - Bids and views for auctions owned by other nodes are ignored here, every node
+ *   holds only its share of the live auctions
+ * - When the ring changes, states this node lost are written to auction_live_state;
+ *   the new owner absorbs and deletes the row on first touch or on its next sweep
+ * - States of auctions that are no longer ONGOING are dropped by the sweep
+ * - Every change is journaled and all states are snapshotted periodically, so a
+ *   restart reloads them instead of starting from empty (see LiveStateJournal);
+ *   handed off and dropped states are journaled as tombstones so they stay gone
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class LiveAuctionRegistry {
+
+    private static final Duration HANDOFF_RETENTION = Duration.ofDays(1);
+
+    private final AuctionClusterService clusterService;
+    private final AuctionRepository auctionRepository;
+    private final AuctionLiveStateRepository liveStateRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final LiveStateJournal journal;
+
+    private final Map<UUID, LiveState> states = new ConcurrentHashMap<>();
+
+    // Orders every change; a state remembers the last one it contains
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * Reload the states from the last snapshot plus the journal written after it,
+     * before the event consumers start
+     * - Snapshot states are taken as is, journal deltas they already contain are skipped
+     * - A tombstone removes the state, deltas of that auction from before it are skipped
+     * - Auctions that ended meanwhile are dropped, auctions owned by another node
+     *   are handed off
+     */
+    @PostConstruct
+    void restore() throws IOException {
+        if (!journal.isEnabled()) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        Map<UUID, Long> removedAt = new HashMap<>();
+        LiveStateJournal.Recovery recovery = journal.restore(
+                snapshot -> {
+                    LiveState state = new LiveState();
+                    state.merge(snapshot);
+                    states.put(snapshot.auctionId(), state);
+                    sequence.accumulateAndGet(snapshot.seq(), Math::max);
+                },
+                delta -> {
+                    sequence.accumulateAndGet(delta.seq(), Math::max);
+                    if (delta.isTombstone()) {
+                        removedAt.merge(delta.auctionId(), delta.seq(), Math::max);
+                        LiveState state = states.get(delta.auctionId());
+                        if (state != null && state.seq < delta.seq()) {
+                            states.remove(delta.auctionId());
+                        }
+                        return;
+                    }
+                    if (delta.seq() <= removedAt.getOrDefault(delta.auctionId(), 0L)) {
+                        return;
+                    }
+                    LiveState state = states.computeIfAbsent(delta.auctionId(), id -> new LiveState());
+                    if (delta.seq() > state.seq) {
+                        state.merge(delta);
+                    }
+                });
+        int restored = states.size();
+        dropEnded();
+        int handedOff = handOffUnowned();
+        log.info("Restored {} live auction(s) from {} snapshot entries ({}) and {} journal entries in {} ms, {} ended, {} handed off",
+                restored, recovery.snapshotEntries(), recovery.snapshotTakenAt(), recovery.journalEntries(),
+                (System.nanoTime() - startedAt) / 1_000_000, restored - handedOff - states.size(), handedOff);
+    }
+
+    public void recordBid(UUID auctionId, UUID bidderId, Money amount, Instant placedAt) {
+        if (clusterService.owns(auctionId)) {
+            apply(state(auctionId), new LiveStateJournal.Entry(0, auctionId, amount, bidderId, 1, placedAt, 0));
+        }
+    }
+
+    public void recordView(UUID auctionId) {
+        if (clusterService.owns(auctionId)) {
+            apply(state(auctionId), new LiveStateJournal.Entry(0, auctionId, null, null, 0, null, 1));
+        }
+    }
+
+    /**
+     * Live state as seen by this node, empty when nothing was recorded for the auction yet
+     */
+    public LiveAuctionResponse get(UUID auctionId) {
+        LiveState state = states.get(auctionId);
+        return state != null
+                ? state.toResponse(auctionId, clusterService.getNodeId())
+                : new LiveAuctionResponse(auctionId, null, null, 0, null, 0, clusterService.getNodeId());
+    }
+
+    /**
+     * Hand off the states of auctions that moved to another node
+     */
+    @EventListener
+    public void onRingChanged(AuctionClusterService.RingChanged event) {
+        int handedOff = handOffUnowned();
+        log.info("Ring changed to {}, handed off {} live auction(s), {} remain on this node",
+                event.nodes(), handedOff, states.size());
+    }
+
+    /**
+     * - Drop states of auctions that are no longer ONGOING
+     * - Absorb handoff rows that arrived after this node first touched the auction
+     * - Purge handoff rows nobody claimed
+     */
+    @Scheduled(fixedDelayString = "${app.cluster.sweep-interval:PT1M}",
+            initialDelayString = "${app.cluster.sweep-interval:PT1M}")
+    public void sweep() {
+        Set<UUID> ongoing = dropEnded();
+        if (!ongoing.isEmpty()) {
+            for (AuctionLiveStateEntity row : liveStateRepository.findAllById(ongoing)) {
+                LiveState state = states.get(row.getAuctionId());
+                if (state != null && claim(row)) {
+                    apply(state, deltaOf(row));
+                }
+            }
+        }
+        purgeHandoffs();
+    }
+
+    /**
+     * Write all states to a new snapshot without pausing updates
+     * - Rotate the journal first: changes from here on land in the new segment
+     * - Copy each state under its own lock only; a change racing with the copy is in
+     *   both the copy and the new segment, and replay skips it by its seq
+     */
+    @Scheduled(fixedDelayString = "${app.live-state.snapshot-interval:PT30S}",
+            initialDelayString = "${app.live-state.snapshot-interval:PT30S}")
+    public synchronized void snapshot() throws IOException {
+        if (!journal.isEnabled()) {
+            return;
+        }
+        long startedAt = System.nanoTime();
+        long replayFrom = journal.rotate();
+        List<LiveStateJournal.Entry> entries = new ArrayList<>(states.size());
+        states.forEach((auctionId, state) -> entries.add(state.toEntry(auctionId)));
+        journal.writeSnapshot(replayFrom, entries);
+        log.debug("Snapshotted {} live auction(s) in {} ms", entries.size(), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    @PreDestroy
+    void snapshotOnShutdown() throws IOException {
+        snapshot();
+    }
+
+    private void apply(LiveState state, LiveStateJournal.Entry delta) {
+        synchronized (state) {
+            long seq = sequence.incrementAndGet();
+            state.merge(delta);
+            state.seq = seq;
+            journal.append(new LiveStateJournal.Entry(seq, delta.auctionId(), delta.highestBid(),
+                    delta.highestBidderId(), delta.bidCount(), delta.lastBidAt(), delta.views()));
+        }
+    }
+
+    // Journal that a removed state is gone, replay would rebuild it from its deltas otherwise
+    private void forget(UUID auctionId, LiveState state) {
+        synchronized (state) {
+            journal.append(LiveStateJournal.Entry.tombstone(sequence.incrementAndGet(), auctionId));
+        }
+    }
+
+    /**
+     * Remove the states of auctions that are no longer ONGOING, return the ids kept
+     */
+    private Set<UUID> dropEnded() {
+        if (states.isEmpty()) {
+            return Set.of();
+        }
+        List<UUID> ids = List.copyOf(states.keySet());
+        Set<UUID> ongoing = new HashSet<>();
+        for (AuctionEntity auction : auctionRepository.findAllById(ids)) {
+            if (auction.getStatus() == AuctionEntity.AuctionStatus.ONGOING) {
+                ongoing.add(auction.getId());
+            }
+        }
+        for (UUID id : ids) {
+            LiveState state = ongoing.contains(id) ? null : states.remove(id);
+            if (state != null) {
+                forget(id, state);
+            }
+        }
+        return ongoing;
+    }
+
+    private int handOffUnowned() {
+        List<AuctionLiveStateEntity> handoffs = new ArrayList<>();
+        Instant now = Instant.now();
+        for (Map.Entry<UUID, LiveState> entry : states.entrySet()) {
+            if (!clusterService.owns(entry.getKey()) && states.remove(entry.getKey(), entry.getValue())) {
+                handoffs.add(entry.getValue().toEntity(entry.getKey(), now));
+                forget(entry.getKey(), entry.getValue());
+            }
+        }
+        if (!handoffs.isEmpty()) {
+            liveStateRepository.saveAll(handoffs);
+        }
+        return handoffs.size();
+    }
+
+    private void purgeHandoffs() {
+        Instant cutoff = Instant.now().minus(HANDOFF_RETENTION);
+        Integer purged = new TransactionTemplate(transactionManager)
+                .execute(status -> liveStateRepository.deleteHandedOffBefore(cutoff));
+        if (purged != null && purged > 0) {
+            log.info("Purged {} unclaimed live state handoff(s) older than {}", purged, cutoff);
+        }
+    }
+
+    private LiveState state(UUID auctionId) {
+        LiveState state = states.get(auctionId);
+        if (state != null) {
+            return state;
+        }
+        // First touch on this node: pick up a handoff, outside computeIfAbsent as it is a DB call.
+        // Concurrent first touches may all read the row, only the one whose delete removes it applies it.
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        Optional<AuctionLiveStateEntity> handoff = Optional.ofNullable(transaction.execute(status ->
+                liveStateRepository.findById(auctionId).filter(this::claim).orElse(null)));
+        state = states.computeIfAbsent(auctionId, id -> new LiveState());
+        LiveState created = state;
+        handoff.ifPresent(row -> apply(created, deltaOf(row)));
+        return state;
+    }
+
+    private boolean claim(AuctionLiveStateEntity row) {
+        return liveStateRepository.claim(row.getAuctionId(), row.getHandedOffAt()) == 1;
+    }
+
+    private static LiveStateJournal.Entry deltaOf(AuctionLiveStateEntity row) {
+        return new LiveStateJournal.Entry(0, row.getAuctionId(), row.getHighestBid(), row.getHighestBidderId(),
+                row.getBidCount(), row.getLastBidAt(), row.getViews());
+    }
+
+    private static final class LiveState {
+        private Money highestBid;
+        private UUID highestBidderId;
+        private long bidCount;
+        private Instant lastBidAt;
+        private long views;
+        private long seq;
+
+        synchronized void merge(LiveStateJournal.Entry delta) {
+            if (delta.highestBid() != null && (highestBid == null || delta.highestBid().isGreaterThan(highestBid))) {
+                highestBid = delta.highestBid();
+                highestBidderId = delta.highestBidderId();
+            }
+            if (delta.lastBidAt() != null && (lastBidAt == null || delta.lastBidAt().isAfter(lastBidAt))) {
+                lastBidAt = delta.lastBidAt();
+            }
+            bidCount += delta.bidCount();
+            views += delta.views();
+            seq = Math.max(seq, delta.seq());
+        }
+
+        synchronized LiveStateJournal.Entry toEntry(UUID auctionId) {
+            return new LiveStateJournal.Entry(seq, auctionId, highestBid, highestBidderId, bidCount, lastBidAt, views);
+        }
+
+        synchronized AuctionLiveStateEntity toEntity(UUID auctionId, Instant handedOffAt) {
+            return AuctionLiveStateEntity.builder()
+                    .auctionId(auctionId)
+                    .highestBid(highestBid)
+                    .highestBidderId(highestBidderId)
+                    .bidCount(bidCount)
+                    .lastBidAt(lastBidAt)
+                    .views(views)
+                    .handedOffAt(handedOffAt)
+                    .build();
+        }
+
+        synchronized LiveAuctionResponse toResponse(UUID auctionId, String nodeId) {
+            return new LiveAuctionResponse(auctionId, highestBid, highestBidderId, bidCount, lastBidAt, views, nodeId);
+        }
+    }
+}
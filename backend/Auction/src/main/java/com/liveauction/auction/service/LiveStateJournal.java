@@ -0,0 +1,338 @@
+package com.liveauction.auction.service;
+
+import com.liveauction.shared.money.Money;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Durable copy of the live auction state on this node's disk, off unless app.live-state.enabled
+ * and app.live-state.dir are set.
+ * - Every change to a live state is appended to the current journal segment as a delta
+ * - Appends are group-committed: buffered, and written when BATCH_ENTRIES are pending,
+ *   every flush-interval, and before a rotation or close
+ * - A snapshot rotates to a new segment first, then writes all states; replay after a
+ *   restart starts at that segment, older segments are deleted
+ * - Entries carry the registry's sequence number; replay skips deltas a state's snapshot
+ *   already contains, so deltas written while the snapshot was taken are not counted twice
+ * - A state that leaves this node (handed off or ended) is journaled as a tombstone; replay
+ *   drops the state and skips the auction's earlier deltas, so it is not rebuilt after a restart
+ *
+ * File layout, all numbers big-endian:
+ *   snapshot.bin:        magic, version, replay-from segment (8 bytes), entry count (4 bytes), entries
+ *   journal-{segment}.bin: magic, version, entries until end of file
+ *   entry (76 bytes):    seq, auction id, highest bidder id (zero when none), highest bid in cents
+ *                        (-1 when none), last bid epoch micros (MIN_VALUE when none), bid count,
+ *                        (-1 in a tombstone), views, CRC32 of the preceding 72 bytes
+ * A torn entry at the end of the last segment (crash mid-write) fails its CRC and ends the replay.
+ * Appends are not fsynced: a process crash loses at most the last flush-interval of changes, a
+ * host crash also loses what the OS had not written back yet.
+ */
+@Component
+@Slf4j
+public class LiveStateJournal {
+
+    private static final int MAGIC = 0x4C415354; // "LAST"
+    private static final byte VERSION = 1;
+    private static final int ENTRY_SIZE = 76;
+    private static final int BATCH_ENTRIES = 64;
+    private static final String SNAPSHOT = "snapshot.bin";
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".bin";
+    private static final long TOMBSTONE = -1;
+
+    /**
+     * One live state, or a delta to merge into one
+     */
+    public record Entry(
+            long seq,
+            UUID auctionId,
+            Money highestBid,
+            UUID highestBidderId,
+            long bidCount,
+            Instant lastBidAt,
+            long views
+    ) {
+        /**
+         * Marks the end of an auction's state on this node
+         */
+        public static Entry tombstone(long seq, UUID auctionId) {
+            return new Entry(seq, auctionId, null, null, TOMBSTONE, null, 0);
+        }
+
+        public boolean isTombstone() {
+            return bidCount == TOMBSTONE;
+        }
+    }
+
+    /**
+     * What restore() read
+     */
+    public record Recovery(long snapshotEntries, long journalEntries, Instant snapshotTakenAt) {
+    }
+
+    @Value("${app.live-state.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.live-state.dir:}")
+    private String dir;
+
+    private Path root;
+    private FileChannel journal;
+    private long segment;
+    private final ByteBuffer pending = ByteBuffer.allocate(BATCH_ENTRIES * ENTRY_SIZE);
+
+    @PostConstruct
+    void init() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        if (dir.isBlank()) {
+            throw new IllegalStateException("app.live-state.dir is required when app.live-state.enabled=true");
+        }
+        root = Path.of(dir).toAbsolutePath().normalize();
+        Files.createDirectories(root);
+        log.info("Live auction state journaled under {}", root);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Pass the states of the last snapshot, then every journal delta written after it,
+     * to the consumers and open a fresh segment for appends. Call once, before the first append.
+     */
+    public synchronized Recovery restore(Consumer<Entry> snapshotEntries, Consumer<Entry> journalEntries) throws IOException {
+        int count = 0;
+        long replayFrom = 0;
+        Instant takenAt = null;
+        Path snapshotFile = root.resolve(SNAPSHOT);
+        if (Files.exists(snapshotFile)) {
+            takenAt = Files.getLastModifiedTime(snapshotFile).toInstant();
+            try (DataInputStream in = open(snapshotFile)) {
+                replayFrom = in.readLong();
+                count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    Entry entry = readEntry(in);
+                    if (entry == null) {
+                        throw new IOException("Corrupt live state snapshot " + snapshotFile);
+                    }
+                    snapshotEntries.accept(entry);
+                }
+            }
+        }
+
+        long replayed = 0;
+        long lastSegment = replayFrom;
+        for (long number : segments()) {
+            lastSegment = Math.max(lastSegment, number);
+            if (number < replayFrom) {
+                continue;
+            }
+            try (DataInputStream in = open(segmentFile(number))) {
+                Entry entry;
+                while ((entry = readEntry(in)) != null) {
+                    journalEntries.accept(entry);
+                    replayed++;
+                }
+            }
+        }
+
+        openSegment(lastSegment + 1);
+        return new Recovery(count, replayed, takenAt);
+    }
+
+    /**
+     * Buffer one change; the append that fills the batch writes it
+     */
+    public synchronized void append(Entry entry) {
+        if (journal == null) {
+            return;
+        }
+        writeEntry(pending, entry);
+        if (!pending.hasRemaining()) {
+            flush();
+        }
+    }
+
+    /**
+     * Write the buffered changes to the current segment
+     */
+    @Scheduled(fixedDelayString = "${app.live-state.flush-interval:PT0.1S}")
+    public synchronized void flush() {
+        if (journal == null || pending.position() == 0) {
+            return;
+        }
+        int entries = pending.position() / ENTRY_SIZE;
+        try {
+            drain(journal, pending);
+        } catch (IOException e) {
+            log.warn("Could not journal {} live state change(s): {}", entries, e.getMessage());
+            pending.clear();
+        }
+    }
+
+    /**
+     * Start a new journal segment and return its number. Pass it to writeSnapshot()
+     * together with the states read after this call.
+     */
+    public synchronized long rotate() throws IOException {
+        openSegment(segment + 1);
+        return segment;
+    }
+
+    /**
+     * Replace the snapshot atomically, then drop the segments it covers
+     */
+    public void writeSnapshot(long replayFrom, List<Entry> entries) throws IOException {
+        Path temp = root.resolve(SNAPSHOT + ".tmp");
+        try (FileChannel out = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(64 * ENTRY_SIZE);
+            buffer.putInt(MAGIC).put(VERSION).putLong(replayFrom).putInt(entries.size());
+            for (Entry entry : entries) {
+                if (buffer.remaining() < ENTRY_SIZE) {
+                    drain(out, buffer);
+                }
+                writeEntry(buffer, entry);
+            }
+            drain(out, buffer);
+            out.force(true);
+        }
+        Files.move(temp, root.resolve(SNAPSHOT), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        for (long number : segments()) {
+            if (number < replayFrom) {
+                Files.deleteIfExists(segmentFile(number));
+            }
+        }
+    }
+
+    @PreDestroy
+    synchronized void close() throws IOException {
+        if (journal != null) {
+            drain(journal, pending);
+            journal.close();
+            journal = null;
+        }
+    }
+
+    private void openSegment(long number) throws IOException {
+        if (journal != null) {
+            // Changes buffered before the rotation belong to the old segment
+            drain(journal, pending);
+            journal.close();
+        }
+        segment = number;
+        journal = FileChannel.open(segmentFile(number), StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        journal.write(ByteBuffer.allocate(5).putInt(MAGIC).put(VERSION).flip());
+    }
+
+    private List<Long> segments() throws IOException {
+        try (Stream<Path> files = Files.list(root)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentFile(long number) {
+        return root.resolve(SEGMENT_PREFIX + String.format("%020d", number) + SEGMENT_SUFFIX);
+    }
+
+    private static DataInputStream open(Path file) throws IOException {
+        InputStream in = new BufferedInputStream(Files.newInputStream(file), 64 * 1024);
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC || data.readByte() != VERSION) {
+            data.close();
+            throw new IOException("Not a live state file of a supported version: " + file);
+        }
+        return data;
+    }
+
+    private static void drain(FileChannel out, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private static void writeEntry(ByteBuffer buffer, Entry entry) {
+        int start = buffer.position();
+        UUID bidder = entry.highestBidderId();
+        buffer.putLong(entry.seq())
+                .putLong(entry.auctionId().getMostSignificantBits())
+                .putLong(entry.auctionId().getLeastSignificantBits())
+                .putLong(bidder != null ? bidder.getMostSignificantBits() : 0)
+                .putLong(bidder != null ? bidder.getLeastSignificantBits() : 0)
+                .putLong(entry.highestBid() != null ? entry.highestBid().cents() : -1)
+                .putLong(entry.lastBidAt() != null ? toMicros(entry.lastBidAt()) : Long.MIN_VALUE)
+                .putLong(entry.bidCount())
+                .putLong(entry.views());
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), buffer.arrayOffset() + start, ENTRY_SIZE - 4);
+        buffer.putInt((int) crc.getValue());
+    }
+
+    /**
+     * Next entry, or null at the end of the file or at a torn entry
+     */
+    private static Entry readEntry(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[ENTRY_SIZE];
+        try {
+            in.readFully(bytes);
+        } catch (EOFException e) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, ENTRY_SIZE - 4);
+        if (buffer.getInt(ENTRY_SIZE - 4) != (int) crc.getValue()) {
+            return null;
+        }
+        long seq = buffer.getLong();
+        UUID auctionId = new UUID(buffer.getLong(), buffer.getLong());
+        long bidderHigh = buffer.getLong();
+        long bidderLow = buffer.getLong();
+        long cents = buffer.getLong();
+        long lastBidMicros = buffer.getLong();
+        return new Entry(
+                seq,
+                auctionId,
+                cents >= 0 ? Money.ofCents(cents) : null,
+                bidderHigh != 0 || bidderLow != 0 ? new UUID(bidderHigh, bidderLow) : null,
+                buffer.getLong(),
+                lastBidMicros != Long.MIN_VALUE ? fromMicros(lastBidMicros) : null,
+                buffer.getLong()
+        );
+    }
+
+    private static long toMicros(Instant instant) {
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000);
+    }
+
+    private static Instant fromMicros(long micros) {
+        return Instant.ofEpochSecond(Math.floorDiv(micros, 1_000_000L), Math.floorMod(micros, 1_000_000L) * 1_000L);
+    }
+}
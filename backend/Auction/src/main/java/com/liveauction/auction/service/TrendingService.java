@@ -0,0 +1,107 @@
+package com.liveauction.auction.service;
+
+import com.liveauction.auction.dto.response.TrendingAuctionResponse;
+import com.liveauction.auction.entity.AuctionEntity;
+import com.liveauction.auction.entity.ItemSummaryEntity;
+import com.liveauction.auction.repository.AuctionRepository;
+import com.liveauction.shared.sketch.DecayingTopK;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TrendingService {
+
+    private final AuctionRepository auctionRepository;
+    private final ItemSummaryService itemSummaryService;
+
+    @Value("${app.trending.size:20}")
+    private int size;
+
+    @Value("${app.trending.candidates:100}")
+    private int candidates;
+
+    @Value("${app.trending.sketch-width:2048}")
+    private int sketchWidth;
+
+    @Value("${app.trending.sketch-depth:4}")
+    private int sketchDepth;
+
+    @Value("${app.trending.half-life:PT5M}")
+    private Duration halfLife;
+
+    @Value("${app.trending.bid-weight:5}")
+    private double bidWeight;
+
+    @Value("${app.trending.view-weight:1}")
+    private double viewWeight;
+
+    private DecayingTopK<UUID> hottest;
+
+    // Rebuilt by refresh(), requests only read the reference
+    private volatile List<TrendingAuctionResponse> trending = List.of();
+
+    @PostConstruct
+    void init() {
+        hottest = new DecayingTopK<>(candidates, sketchWidth, sketchDepth, halfLife);
+    }
+
+    public void recordBid(UUID auctionId) {
+        hottest.add(auctionId, bidWeight);
+    }
+
+    public void recordView(UUID auctionId) {
+        hottest.add(auctionId, viewWeight);
+    }
+
+    public List<TrendingAuctionResponse> getTrending() {
+        return trending;
+    }
+
+    /**
+     * Rebuild the trending list from the current heavy hitters
+     * - Candidates that are no longer ONGOING are dropped from the sketch's top-K
+     * - One query for the candidate auctions, one for their items
+     */
+    @Scheduled(fixedRateString = "${app.trending.refresh-interval:PT1S}")
+    @Transactional(readOnly = true)
+    public void refresh() {
+        List<Map.Entry<UUID, Double>> top = hottest.top();
+        if (top.isEmpty()) {
+            trending = List.of();
+            return;
+        }
+
+        Map<UUID, AuctionEntity> auctions = auctionRepository.findAllById(top.stream().map(Map.Entry::getKey).toList())
+                .stream()
+                .collect(Collectors.toMap(AuctionEntity::getId, Function.identity()));
+        List<AuctionEntity> ongoing = new ArrayList<>();
+        for (Map.Entry<UUID, Double> entry : top) {
+            AuctionEntity auction = auctions.get(entry.getKey());
+            if (auction == null || auction.getStatus() != AuctionEntity.AuctionStatus.ONGOING) {
+                hottest.remove(entry.getKey());
+            } else if (ongoing.size() < size) {
+                ongoing.add(auction);
+            }
+        }
+
+        Map<UUID, ItemSummaryEntity> items = itemSummaryService.findAll(
+                ongoing.stream().map(AuctionEntity::getItemId).toList());
+        Map<UUID, Double> scores = top.stream().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        trending = ongoing.stream()
+                .map(auction -> TrendingAuctionResponse.fromEntity(
+                        auction, items.get(auction.getItemId()), scores.get(auction.getId())))
+                .toList();
+    }
+}
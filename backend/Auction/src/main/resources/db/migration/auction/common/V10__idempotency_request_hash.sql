@@ -0,0 +1,3 @@
+-- Fingerprint of the request an Idempotency-Key was first used with, so reusing
+-- the key with a different body is rejected instead of replaying the first response.
+alter table idempotency_records add column request_hash varchar(64);
@@ -0,0 +1,62 @@
+-- Baseline schema of the Auction service, as previously created by Hibernate auto-DDL.
+-- Portable between PostgreSQL and H2; vendor specific indexes live in db/migration/auction/{vendor}.
+
+create table item_claims (
+    id                 uuid                        not null,
+    item_id            uuid                        not null,
+    item_owner_id      uuid                        not null,
+    auctioneer_id      uuid                        not null,
+    auctioneer_message text,
+    status             varchar(255)                not null check (status in ('PENDING', 'APPROVED', 'REJECTED')),
+    seller_message     varchar(255),
+    reviewed_at        timestamp(6) with time zone,
+    created_at         timestamp(6) with time zone not null,
+    updated_at         timestamp(6) with time zone not null,
+    constraint pk_item_claims primary key (id)
+);
+
+create table auctions (
+    id             uuid                        not null,
+    title          varchar(200)                not null,
+    item_id        uuid                        not null,
+    auctioneer_id  uuid                        not null,
+    claim_id       uuid                        not null,
+    status         varchar(255)                not null check (status in ('SCHEDULED', 'ONGOING', 'COMPLETED', 'CANCELLED')),
+    starting_price numeric(10, 2)              not null,
+    reserve_price  numeric(10, 2),
+    bid_increment  numeric(10, 2)              not null,
+    start_time     timestamp(6) with time zone not null,
+    end_time       timestamp(6) with time zone not null,
+    winner_id      uuid,
+    winning_bid    numeric(10, 2),
+    created_at     timestamp(6) with time zone not null,
+    updated_at     timestamp(6) with time zone not null,
+    constraint pk_auctions primary key (id)
+);
+
+create table item_summaries (
+    id                uuid                        not null,
+    owner_id          uuid                        not null,
+    name              varchar(200)                not null,
+    category          varchar(255)                not null,
+    condition         varchar(255)                not null,
+    status            varchar(255)                not null,
+    starting_price    numeric(10, 2)              not null,
+    bid_increment     numeric(10, 2)              not null,
+    source_updated_at timestamp(6) with time zone not null,
+    constraint pk_item_summaries primary key (id)
+);
+
+create table idempotency_records (
+    id              uuid                        not null,
+    user_id         uuid                        not null,
+    idempotency_key varchar(100)                not null,
+    route           varchar(255)                not null,
+    status          varchar(255)                not null check (status in ('IN_PROGRESS', 'COMPLETED')),
+    http_status     integer,
+    response_body   text,
+    created_at      timestamp(6) with time zone not null,
+    updated_at      timestamp(6) with time zone not null,
+    constraint pk_idempotency_records primary key (id),
+    constraint uk_idempotency_user_key unique (user_id, idempotency_key)
+);
@@ -0,0 +1,30 @@
+-- Cold storage for terminal auctions and resolved claims, filled by AuctionArchiveService.
+-- payload is the gzip compressed JSON of the API response for the row.
+
+create table auction_archive (
+    id            uuid                        not null,
+    auctioneer_id uuid                        not null,
+    item_id       uuid                        not null,
+    claim_id      uuid                        not null,
+    status        varchar(20)                 not null,
+    end_time      timestamp(6) with time zone not null,
+    archived_at   timestamp(6) with time zone not null,
+    payload       bytea                       not null,
+    constraint pk_auction_archive primary key (id)
+);
+
+create table item_claim_archive (
+    id            uuid                        not null,
+    item_id       uuid                        not null,
+    auctioneer_id uuid                        not null,
+    status        varchar(20)                 not null,
+    archived_at   timestamp(6) with time zone not null,
+    payload       bytea                       not null,
+    constraint pk_item_claim_archive primary key (id)
+);
+
+-- findAllByAuctioneerIdOrderByEndTimeDesc
+create index idx_auction_archive_auctioneer_end_time on auction_archive (auctioneer_id, end_time);
+-- existsByItemIdAndAuctioneerId, existsByItemIdAndStatus
+create index idx_item_claim_archive_item_auctioneer on item_claim_archive (item_id, auctioneer_id);
+create index idx_item_claim_archive_item_status on item_claim_archive (item_id, status);
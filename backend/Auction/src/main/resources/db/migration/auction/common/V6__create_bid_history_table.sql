@@ -0,0 +1,11 @@
+-- Bid history of closed auctions, one columnar chunk per auction (see BidHistoryCodec).
+
+create table auction_bid_history (
+    auction_id   uuid                        not null,
+    bid_count    integer                     not null,
+    first_bid_at timestamp(6) with time zone,
+    last_bid_at  timestamp(6) with time zone,
+    created_at   timestamp(6) with time zone not null,
+    chunk        bytea                       not null,
+    constraint pk_auction_bid_history primary key (auction_id)
+);
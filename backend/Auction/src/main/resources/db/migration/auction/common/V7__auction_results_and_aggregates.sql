@@ -0,0 +1,21 @@
+-- Close events from the bidding engine and the analytics aggregates built from them.
+
+alter table auctions add column result_received_at timestamp(6) with time zone;
+
+-- findAllByResultReceivedAtGreaterThanEqual
+create index idx_auctions_result_received_at on auctions (result_received_at);
+
+-- Snapshot of AuctionAnalyticsService, one row per category/condition/day bucket
+create table auction_result_aggregates (
+    bucket_key         varchar(255)                not null,
+    category           varchar(50)                 not null,
+    condition          varchar(50)                 not null,
+    bucket_day         date                        not null,
+    closed             bigint                      not null,
+    sold               bigint                      not null,
+    with_reserve       bigint                      not null,
+    reserve_met        bigint                      not null,
+    hammer_ratio_sum   double precision            not null,
+    snapshot_at        timestamp(6) with time zone not null,
+    constraint pk_auction_result_aggregates primary key (bucket_key)
+);
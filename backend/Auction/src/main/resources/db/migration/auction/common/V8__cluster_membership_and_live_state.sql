@@ -0,0 +1,27 @@
+-- Auction node membership for consistent-hash ownership of live auctions, and the
+-- handoff table for live state moving between nodes.
+
+create table auction_nodes (
+    node_id      varchar(64)                 not null,
+    base_url     varchar(255)                not null,
+    heartbeat_at timestamp(6) with time zone not null,
+    started_at   timestamp(6) with time zone not null,
+    constraint pk_auction_nodes primary key (node_id)
+);
+
+-- findAllByHeartbeatAtAfter, deleteHeartbeatBefore
+create index idx_auction_nodes_heartbeat_at on auction_nodes (heartbeat_at);
+
+create table auction_live_state (
+    auction_id        uuid                        not null,
+    highest_bid       numeric(10, 2),
+    highest_bidder_id uuid,
+    bid_count         bigint                      not null,
+    last_bid_at       timestamp(6) with time zone,
+    views             bigint                      not null,
+    handed_off_at     timestamp(6) with time zone not null,
+    constraint pk_auction_live_state primary key (auction_id)
+);
+
+-- deleteHandedOffBefore
+create index idx_auction_live_state_handed_off_at on auction_live_state (handed_off_at);
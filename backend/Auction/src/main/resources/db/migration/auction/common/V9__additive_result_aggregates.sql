@@ -0,0 +1,9 @@
+-- Result aggregates are now incremented in the transaction that applies a result,
+-- instead of being snapshotted from memory and replayed from auctions on startup.
+
+drop index idx_auctions_result_received_at;
+
+alter table auction_result_aggregates rename column snapshot_at to updated_at;
+
+-- findAllByUpdatedAtGreaterThanEqual
+create index idx_auction_result_aggregates_updated_at on auction_result_aggregates (updated_at);
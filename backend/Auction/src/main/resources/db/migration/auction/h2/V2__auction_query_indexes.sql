@@ -0,0 +1,12 @@
+-- Indexes for the derived queries in AuctionRepository, ItemClaimRepository and IdempotencyRecordRepository.
+-- H2 has no partial indexes, the PostgreSQL ones are plain indexes here.
+
+create index idx_auctions_auctioneer on auctions (auctioneer_id);
+create index idx_auctions_status_start_time on auctions (status, start_time);
+create index idx_auctions_status_end_time on auctions (status, end_time);
+
+create index idx_item_claims_item_status on item_claims (item_id, status);
+create index idx_item_claims_item_auctioneer on item_claims (item_id, auctioneer_id);
+create index idx_item_claims_auctioneer_status on item_claims (auctioneer_id, status);
+
+create index idx_idempotency_records_created_at on idempotency_records (created_at);
@@ -0,0 +1,3 @@
+-- Archival candidates: findAllByStatusInAndUpdatedAtBefore, findAllByStatusAndUpdatedAtBefore.
+create index idx_auctions_status_updated_at on auctions (status, updated_at);
+create index idx_item_claims_status_updated_at on item_claims (status, updated_at);
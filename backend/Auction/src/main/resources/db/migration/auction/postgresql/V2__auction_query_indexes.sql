@@ -0,0 +1,20 @@
+-- Indexes for the derived queries in AuctionRepository, ItemClaimRepository and IdempotencyRecordRepository.
+
+-- findAllByAuctioneerId
+create index idx_auctions_auctioneer on auctions (auctioneer_id);
+-- findAllByStatus, findAllByStatusAndStartTimeLessThanEqual
+create index idx_auctions_status_start_time on auctions (status, start_time);
+-- findAllByStatusAndEndTimeLessThanEqual(ONGOING): only live auctions are polled for their end
+create index idx_auctions_ongoing_end_time on auctions (end_time) where status = 'ONGOING';
+
+-- findAllByItemId, findAllByItemIdAndStatus, findByItemIdAndStatus, existsByItemIdAndStatus
+create index idx_item_claims_item_status on item_claims (item_id, status);
+-- existsByItemIdAndAuctioneerId
+create index idx_item_claims_item_auctioneer on item_claims (item_id, auctioneer_id);
+-- findAllByAuctioneerId, findAllByAuctioneerIdAndStatus
+create index idx_item_claims_auctioneer_status on item_claims (auctioneer_id, status);
+-- existsByItemIdAndStatus(APPROVED) runs on every claim; approved claims are few
+create index idx_item_claims_approved_item on item_claims (item_id) where status = 'APPROVED';
+
+-- deleteCreatedBefore
+create index idx_idempotency_records_created_at on idempotency_records (created_at);
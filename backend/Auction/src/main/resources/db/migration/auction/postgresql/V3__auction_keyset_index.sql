@@ -0,0 +1,3 @@
+-- Keyset pagination of auctions by status: findAllByStatusOrderByIdAsc, findAllByStatusAndIdGreaterThanOrderByIdAsc.
+-- Ids are UUIDv7, so id order is creation order.
+create index idx_auctions_status_id on auctions (status, id);
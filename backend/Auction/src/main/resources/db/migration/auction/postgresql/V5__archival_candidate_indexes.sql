@@ -0,0 +1,4 @@
+-- Archival candidates: findAllByStatusInAndUpdatedAtBefore, findAllByStatusAndUpdatedAtBefore.
+-- Partial, so the hot SCHEDULED/ONGOING rows never enter these indexes.
+create index idx_auctions_terminal_updated_at on auctions (updated_at) where status in ('COMPLETED', 'CANCELLED');
+create index idx_item_claims_rejected_updated_at on item_claims (updated_at) where status = 'REJECTED';
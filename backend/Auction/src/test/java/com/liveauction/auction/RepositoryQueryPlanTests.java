@@ -0,0 +1,57 @@
+package com.liveauction.auction;
+
+import com.liveauction.auction.entity.AuctionEntity.AuctionStatus;
+import com.liveauction.auction.entity.ItemClaimEntity.ClaimStatus;
+import com.liveauction.shared.test.AbstractRepositoryQueryPlanTests;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Repository queries of the Auction service must use an index, see AbstractRepositoryQueryPlanTests.
+ * A new repository method needs a matching index in db/migration/auction/postgresql.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestcontainersConfiguration.class)
+class RepositoryQueryPlanTests extends AbstractRepositoryQueryPlanTests {
+
+    RepositoryQueryPlanTests() {
+        super("com.liveauction.auction", "db/migration/auction/postgresql");
+    }
+
+    @Override
+    protected Map<String, List<Object>> arguments() {
+        Instant now = Instant.now();
+        Limit limit = Limit.of(20);
+        return Map.ofEntries(
+                // Public listings, ONGOING is the one browsed
+                Map.entry("AuctionRepository.findAllByStatus", List.of(AuctionStatus.ONGOING)),
+                Map.entry("AuctionRepository.findAllByStatusOrderByIdAsc", List.of(AuctionStatus.ONGOING, limit)),
+                Map.entry("AuctionRepository.findAllByStatusAndIdGreaterThanOrderByIdAsc",
+                        List.of(AuctionStatus.ONGOING, UUID.randomUUID(), limit)),
+                // Scheduler, idx_auctions_ongoing_end_time covers ending
+                Map.entry("AuctionRepository.findAllByStatusAndStartTimeLessThanEqualOrderByStartTimeAsc",
+                        List.of(AuctionStatus.SCHEDULED, now, limit)),
+                Map.entry("AuctionRepository.findAllByStatusAndEndTimeLessThanEqualOrderByEndTimeAsc",
+                        List.of(AuctionStatus.ONGOING, now, limit)),
+                // Archival, partial indexes on the terminal and rejected rows
+                Map.entry("AuctionRepository.findAllByStatusInAndUpdatedAtBefore",
+                        List.of(List.of(AuctionStatus.COMPLETED, AuctionStatus.CANCELLED), now, limit)),
+                Map.entry("ItemClaimRepository.findAllByStatusAndUpdatedAtBefore", List.of(ClaimStatus.REJECTED, now, limit)),
+                // Claims, idx_item_claims_approved_item covers the APPROVED checks
+                Map.entry("ItemClaimRepository.existsByItemIdAndStatus", List.of(UUID.randomUUID(), ClaimStatus.APPROVED)),
+                Map.entry("ItemClaimRepository.findAllByItemIdAndStatus", List.of(UUID.randomUUID(), ClaimStatus.APPROVED)),
+                Map.entry("ItemClaimRepository.findByItemIdAndStatus", List.of(UUID.randomUUID(), ClaimStatus.PENDING)),
+                Map.entry("ItemClaimRepository.findAllByAuctioneerIdAndStatus", List.of(UUID.randomUUID(), ClaimStatus.APPROVED)),
+                Map.entry("ItemClaimArchiveRepository.existsByItemIdAndStatus",
+                        List.of(UUID.randomUUID(), ClaimStatus.APPROVED.name()))
+        );
+    }
+}
@@ -0,0 +1,105 @@
+package com.liveauction.auction.service;
+
+import com.liveauction.auction.service.BidHistoryCodec.Bid;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Round trips through BidHistoryCodec, including inputs accepted bids never produce
+ */
+class BidHistoryCodecTests {
+
+    private static final Instant START = Instant.parse("2026-10-19T12:00:00.123456Z");
+
+    @Test
+    void emptyHistory() {
+        byte[] chunk = BidHistoryCodec.encode(List.of());
+
+        Iterator<Bid> decoded = BidHistoryCodec.decode(chunk);
+        assertThat(decoded.hasNext()).isFalse();
+        assertThatThrownBy(decoded::next).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void singleBid() {
+        List<Bid> bids = List.of(new Bid(UUID.randomUUID(), 10_050, START));
+
+        assertThat(roundTrip(bids)).containsExactlyElementsOf(bids);
+    }
+
+    @Test
+    void nonMonotonicTimestampsAndAmounts() {
+        UUID bidder = UUID.randomUUID();
+        List<Bid> bids = List.of(
+                new Bid(bidder, 5_000, START),
+                new Bid(bidder, 4_000, START.minusSeconds(30)),
+                new Bid(bidder, 6_000, START.plusMillis(1)),
+                new Bid(bidder, 6_000, START.plusMillis(1)),
+                new Bid(bidder, 0, Instant.parse("1969-12-31T23:59:59.999999Z"))
+        );
+
+        assertThat(roundTrip(bids)).containsExactlyElementsOf(bids);
+    }
+
+    @Test
+    void largeCentValues() {
+        UUID bidder = UUID.randomUUID();
+        List<Bid> bids = List.of(
+                new Bid(bidder, Long.MAX_VALUE, START),
+                new Bid(bidder, 1, START.plusSeconds(1)),
+                new Bid(bidder, Long.MAX_VALUE - 1, START.plusSeconds(2)),
+                new Bid(bidder, 999_999_999_999L, START.plusSeconds(3))
+        );
+
+        assertThat(roundTrip(bids)).containsExactlyElementsOf(bids);
+    }
+
+    @Test
+    void repeatedBiddersShareOneDictionaryEntry() {
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+        List<Bid> bids = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            bids.add(new Bid(i % 2 == 0 ? alice : bob, 1_000 + i * 50L, START.plusMillis(i * 250L)));
+        }
+
+        byte[] chunk = BidHistoryCodec.encode(bids);
+
+        assertThat(roundTrip(bids)).containsExactlyElementsOf(bids);
+        // Two 16 byte bidders, then a few bytes per bid
+        assertThat(chunk.length).isLessThan(2 * 16 + bids.size() * 6);
+    }
+
+    @Test
+    void timestampsKeepMicrosecondPrecision() {
+        Instant placedAt = START.plusNanos(789);
+        List<Bid> bids = List.of(new Bid(UUID.randomUUID(), 100, placedAt));
+
+        assertThat(roundTrip(bids).get(0).placedAt()).isEqualTo(placedAt.truncatedTo(ChronoUnit.MICROS));
+    }
+
+    @Test
+    void rejectsUnknownVersion() {
+        byte[] chunk = BidHistoryCodec.encode(List.of(new Bid(UUID.randomUUID(), 100, START)));
+        chunk[0] = 2;
+
+        assertThatThrownBy(() -> BidHistoryCodec.decode(chunk)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> BidHistoryCodec.decode(new byte[0])).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<Bid> roundTrip(List<Bid> bids) {
+        List<Bid> decoded = new ArrayList<>();
+        BidHistoryCodec.decode(BidHistoryCodec.encode(bids)).forEachRemaining(decoded::add);
+        return decoded;
+    }
+}
@@ -0,0 +1,144 @@
+package com.liveauction.auction.service;
+
+import com.liveauction.auction.dto.response.LiveAuctionResponse;
+import com.liveauction.auction.entity.AuctionEntity;
+import com.liveauction.auction.entity.AuctionLiveStateEntity;
+import com.liveauction.auction.repository.AuctionLiveStateRepository;
+import com.liveauction.auction.repository.AuctionRepository;
+import com.liveauction.shared.money.Money;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Handoffs and restarts of LiveAuctionRegistry, with the database replaced by mocks
+ */
+class LiveAuctionRegistryTests {
+
+    @TempDir
+    Path dir;
+
+    private final UUID auctionId = UUID.randomUUID();
+    private final AuctionClusterService clusterService = mock(AuctionClusterService.class);
+    private final AuctionRepository auctionRepository = mock(AuctionRepository.class);
+    private final AuctionLiveStateRepository liveStateRepository = mock(AuctionLiveStateRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final LiveAuctionRegistry registry = registry(new LiveStateJournal());
+
+    @Test
+    void concurrentFirstTouchesApplyAHandoffOnce() throws Exception {
+        AuctionLiveStateEntity handoff = AuctionLiveStateEntity.builder()
+                .auctionId(auctionId)
+                .highestBid(Money.ofCents(5_000))
+                .highestBidderId(UUID.randomUUID())
+                .bidCount(2)
+                .lastBidAt(Instant.now())
+                .views(5)
+                .handedOffAt(Instant.now())
+                .build();
+        when(clusterService.owns(auctionId)).thenReturn(true);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        // Every first touch reads the row, the database lets exactly one delete remove it
+        when(liveStateRepository.findById(auctionId)).thenReturn(Optional.of(handoff));
+        AtomicBoolean claimed = new AtomicBoolean();
+        when(liveStateRepository.claim(auctionId, handoff.getHandedOffAt()))
+                .thenAnswer(invocation -> claimed.compareAndSet(false, true) ? 1 : 0);
+
+        int viewers = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(viewers);
+        try {
+            List<Future<?>> views = new ArrayList<>();
+            for (int i = 0; i < viewers; i++) {
+                views.add(executor.submit(() -> {
+                    start.await();
+                    registry.recordView(auctionId);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> view : views) {
+                view.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        LiveAuctionResponse state = registry.get(auctionId);
+        assertThat(state.views()).isEqualTo(viewers + 5);
+        assertThat(state.bidCount()).isEqualTo(2);
+        assertThat(state.highestBid()).isEqualTo(Money.ofCents(5_000));
+    }
+
+    @Test
+    void restartDoesNotRebuildAStateHandedOffBefore() throws IOException {
+        AuctionEntity auction = AuctionEntity.builder().status(AuctionEntity.AuctionStatus.ONGOING).build();
+        auction.setId(auctionId);
+        when(auctionRepository.findAllById(any())).thenReturn(List.of(auction));
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        UUID bidderId = UUID.randomUUID();
+
+        LiveStateJournal journal = journal();
+        LiveAuctionRegistry before = registry(journal);
+        before.restore();
+        when(clusterService.owns(auctionId)).thenReturn(true);
+        before.recordBid(auctionId, bidderId, Money.ofCents(100), Instant.now());
+        before.recordBid(auctionId, bidderId, Money.ofCents(110), Instant.now());
+        journal.close();
+
+        // Restarted while the auction belongs to another node: its state is handed off
+        when(clusterService.owns(auctionId)).thenReturn(false);
+        journal = journal();
+        LiveAuctionRegistry handingOff = registry(journal);
+        handingOff.restore();
+        verify(liveStateRepository, times(1)).saveAll(anyIterable());
+        // Then the auction comes back to this node
+        when(clusterService.owns(auctionId)).thenReturn(true);
+        handingOff.recordBid(auctionId, bidderId, Money.ofCents(120), Instant.now());
+        journal.close();
+
+        journal = journal();
+        LiveAuctionRegistry after = registry(journal);
+        after.restore();
+        journal.close();
+
+        verify(liveStateRepository, times(1)).saveAll(anyIterable());
+        assertThat(after.get(auctionId).bidCount()).isEqualTo(1);
+        assertThat(after.get(auctionId).highestBid()).isEqualTo(Money.ofCents(120));
+    }
+
+    private LiveAuctionRegistry registry(LiveStateJournal journal) {
+        return new LiveAuctionRegistry(clusterService, auctionRepository, liveStateRepository, transactionManager, journal);
+    }
+
+    private LiveStateJournal journal() throws IOException {
+        LiveStateJournal journal = new LiveStateJournal();
+        ReflectionTestUtils.setField(journal, "enabled", true);
+        ReflectionTestUtils.setField(journal, "dir", dir.toString());
+        journal.init();
+        return journal;
+    }
+}
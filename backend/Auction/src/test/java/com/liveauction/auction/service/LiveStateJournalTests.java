@@ -0,0 +1,188 @@
+package com.liveauction.auction.service;
+
+import com.liveauction.auction.service.LiveStateJournal.Entry;
+import com.liveauction.auction.service.LiveStateJournal.Recovery;
+import com.liveauction.shared.money.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Crash recovery of LiveStateJournal, on a real directory
+ */
+class LiveStateJournalTests {
+
+    private static final int HEADER_SIZE = 5;
+    private static final int ENTRY_SIZE = 76;
+
+    @TempDir
+    Path dir;
+
+    private final UUID auctionId = UUID.randomUUID();
+    private final UUID bidderId = UUID.randomUUID();
+    private final List<LiveStateJournal> opened = new ArrayList<>();
+
+    @AfterEach
+    void closeJournals() throws IOException {
+        for (LiveStateJournal journal : opened) {
+            journal.close();
+        }
+    }
+
+    @Test
+    void appendsAreWrittenInBatches() throws IOException {
+        LiveStateJournal journal = open();
+        journal.restore(entry -> {}, entry -> {});
+
+        journal.append(bid(1, 100));
+        assertThat(Files.size(lastSegment())).isEqualTo(HEADER_SIZE);
+
+        journal.flush();
+        assertThat(Files.size(lastSegment())).isEqualTo(HEADER_SIZE + ENTRY_SIZE);
+    }
+
+    @Test
+    void tornTailIsRejectedByItsCrc() throws IOException {
+        LiveStateJournal journal = open();
+        journal.restore(entry -> {}, entry -> {});
+        journal.append(bid(1, 100));
+        journal.append(bid(2, 110));
+        journal.append(bid(3, 120));
+        journal.close();
+
+        // Crash while writing the third entry: only part of it reached the disk
+        Path segment = lastSegment();
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            file.setLength(HEADER_SIZE + 2L * ENTRY_SIZE + ENTRY_SIZE / 2);
+        }
+
+        List<Entry> replayed = new ArrayList<>();
+        Recovery recovery = open().restore(entry -> {}, replayed::add);
+
+        assertThat(recovery.journalEntries()).isEqualTo(2);
+        assertThat(replayed).containsExactly(bid(1, 100), bid(2, 110));
+    }
+
+    @Test
+    void corruptTailIsRejectedByItsCrc() throws IOException {
+        LiveStateJournal journal = open();
+        journal.restore(entry -> {}, entry -> {});
+        journal.append(bid(1, 100));
+        journal.append(bid(2, 110));
+        journal.close();
+
+        // Full length, but the last entry's bytes did not all make it
+        Path segment = lastSegment();
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            long amountOffset = HEADER_SIZE + ENTRY_SIZE + 40;
+            file.seek(amountOffset);
+            int original = file.read();
+            file.seek(amountOffset);
+            file.write(original ^ 0xFF);
+        }
+
+        List<Entry> replayed = new ArrayList<>();
+        open().restore(entry -> {}, replayed::add);
+
+        assertThat(replayed).containsExactly(bid(1, 100));
+    }
+
+    @Test
+    void replaysSnapshotFirstThenTheJournalAfterIt() throws IOException {
+        LiveStateJournal journal = open();
+        journal.restore(entry -> {}, entry -> {});
+        journal.append(bid(1, 100));
+        journal.append(bid(2, 110));
+
+        long replayFrom = journal.rotate();
+        // A change racing with the snapshot copy lands in both
+        journal.append(bid(3, 120));
+        journal.writeSnapshot(replayFrom, List.of(state(3, 120, 3)));
+        journal.append(bid(4, 130));
+        journal.close();
+
+        List<String> replay = new ArrayList<>();
+        Recovery recovery = open().restore(
+                entry -> replay.add("snapshot " + entry.seq()),
+                entry -> replay.add("journal " + entry.seq()));
+
+        assertThat(replay).containsExactly("snapshot 3", "journal 3", "journal 4");
+        assertThat(recovery.snapshotEntries()).isEqualTo(1);
+        assertThat(recovery.journalEntries()).isEqualTo(2);
+        assertThat(segments()).allMatch(segment -> segment.compareTo(segmentName(replayFrom)) >= 0);
+    }
+
+    @Test
+    void tombstonesSurviveTheRoundTrip() throws IOException {
+        LiveStateJournal journal = open();
+        journal.restore(entry -> {}, entry -> {});
+        journal.append(bid(1, 100));
+        journal.append(Entry.tombstone(2, auctionId));
+        journal.close();
+
+        List<Entry> replayed = new ArrayList<>();
+        open().restore(entry -> {}, replayed::add);
+
+        assertThat(replayed).containsExactly(bid(1, 100), Entry.tombstone(2, auctionId));
+        assertThat(replayed.get(0).isTombstone()).isFalse();
+        assertThat(replayed.get(1).isTombstone()).isTrue();
+    }
+
+    @Test
+    void enablingRequiresADirectory() {
+        LiveStateJournal journal = new LiveStateJournal();
+        ReflectionTestUtils.setField(journal, "enabled", true);
+        ReflectionTestUtils.setField(journal, "dir", "");
+
+        assertThatThrownBy(journal::init).isInstanceOf(IllegalStateException.class);
+    }
+
+    private LiveStateJournal open() throws IOException {
+        LiveStateJournal journal = new LiveStateJournal();
+        ReflectionTestUtils.setField(journal, "enabled", true);
+        ReflectionTestUtils.setField(journal, "dir", dir.toString());
+        journal.init();
+        opened.add(journal);
+        return journal;
+    }
+
+    private Entry bid(long seq, long cents) {
+        return state(seq, cents, 1);
+    }
+
+    private Entry state(long seq, long cents, long bidCount) {
+        return new Entry(seq, auctionId, Money.ofCents(cents), bidderId, bidCount, Instant.ofEpochSecond(1_800_000_000L + seq), 0);
+    }
+
+    private Path lastSegment() throws IOException {
+        List<String> segments = segments();
+        return dir.resolve(segments.get(segments.size() - 1));
+    }
+
+    private List<String> segments() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.startsWith("journal-"))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private static String segmentName(long number) {
+        return "journal-" + String.format("%020d", number) + ".bin";
+    }
+}
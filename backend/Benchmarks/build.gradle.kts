@@ -0,0 +1,51 @@
+plugins {
+    java
+    id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.3"
+}
+
+group = "com.liveauction"
+version = "0.0.1-SNAPSHOT"
+description = "Benchmarks"
+
+java {
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(21)
+    }
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencyManagement {
+    imports {
+        mavenBom("org.springframework.boot:spring-boot-dependencies:3.5.6")
+        mavenBom("org.springframework.cloud:spring-cloud-dependencies:2025.0.0")
+    }
+}
+
+dependencies {
+    jmh(project(":Shared"))
+    jmh(project(":UserAndAuthentication"))
+    jmh(project(":Item"))
+    jmh(project(":Auction"))
+    jmh("org.springframework.security:spring-security-core")
+    jmh("jakarta.persistence:jakarta.persistence-api") // annotations on the services' entities
+    jmh("com.fasterxml.jackson.core:jackson-databind")
+    jmh("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
+    jmh("io.jsonwebtoken:jjwt-api:0.12.6")
+    jmhRuntimeOnly("io.jsonwebtoken:jjwt-impl:0.12.6")
+    jmhRuntimeOnly("io.jsonwebtoken:jjwt-jackson:0.12.6")
+}
+
+// Run with: gradle :Benchmarks:jmh
+// Results are written as JSON so runs can be diffed against a baseline
+jmh {
+    jmhVersion = "1.37"
+    warmupIterations = 3
+    iterations = 5
+    fork = 1
+    resultFormat = "JSON"
+    resultsFile = layout.buildDirectory.file("results/jmh/results.json")
+}
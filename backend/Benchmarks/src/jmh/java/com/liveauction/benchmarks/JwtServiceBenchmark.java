@@ -0,0 +1,61 @@
+package com.liveauction.benchmarks;
+
+import com.liveauction.auction.service.JwtService;
+import com.liveauction.userandauthentication.entity.PermissionEntity;
+import com.liveauction.userandauthentication.entity.RoleEntity;
+import com.liveauction.userandauthentication.entity.UserEntity;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token parsing done by the JWT filter of every service on each request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        com.liveauction.userandauthentication.service.JwtService issuer =
+                new com.liveauction.userandauthentication.service.JwtService();
+        BenchmarkSupport.setField(issuer, "secretKey", BenchmarkSupport.JWT_SECRET);
+        BenchmarkSupport.setField(issuer, "jwtExpiration", TimeUnit.HOURS.toMillis(1));
+
+        RoleEntity role = RoleEntity.builder()
+                .name("ROLE_AUCTIONEER")
+                .permissions(Set.of(
+                        PermissionEntity.builder().name("CLAIM_ITEM").build(),
+                        PermissionEntity.builder().name("CREATE_AUCTION").build()
+                ))
+                .build();
+        UserEntity user = UserEntity.builder()
+                .username("bench")
+                .email("bench@liveauction.com")
+                .password("ignored")
+                .roles(Set.of(role))
+                .build();
+        user.setId(UUID.randomUUID());
+        token = issuer.generateToken(user);
+
+        jwtService = new JwtService();
+        BenchmarkSupport.setField(jwtService, "secretKey", BenchmarkSupport.JWT_SECRET);
+    }
+
+    @Benchmark
+    public UUID extractUserId() {
+        return jwtService.extractUserId(token);
+    }
+
+    @Benchmark
+    public List<String> extractRoles() {
+        return jwtService.extractRoles(token);
+    }
+}
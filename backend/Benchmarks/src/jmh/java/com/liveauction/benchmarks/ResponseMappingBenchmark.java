@@ -0,0 +1,100 @@
+package com.liveauction.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.liveauction.auction.dto.response.AuctionResponse;
+import com.liveauction.auction.entity.AuctionEntity;
+import com.liveauction.item.dto.response.ItemResponsePublic;
+import com.liveauction.item.entity.ItemEntity;
+import com.liveauction.shared.dto.response.ApiResponse;
+import com.liveauction.shared.money.Money;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity to DTO mapping and JSON serialization of the ApiResponse envelope.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseMappingBenchmark {
+
+    private AuctionEntity auction;
+    private ItemEntity item;
+    private ObjectMapper objectMapper;
+    private ApiResponse<AuctionResponse> singleResponse;
+    private ApiResponse<List<ItemResponsePublic>> listResponse;
+
+    @Setup
+    public void setUp() {
+        Instant now = Instant.now();
+        auction = AuctionEntity.builder()
+                .title("Vintage watch")
+                .itemId(UUID.randomUUID())
+                .auctioneerId(UUID.randomUUID())
+                .claimId(UUID.randomUUID())
+                .startingPrice(Money.of("100.00"))
+                .reservePrice(Money.of("250.00"))
+                .bidIncrement(Money.of("5.00"))
+                .startTime(now)
+                .endTime(now.plus(3, ChronoUnit.HOURS))
+                .build();
+        auction.setId(UUID.randomUUID());
+        auction.setCreatedAt(now);
+        auction.setUpdatedAt(now);
+
+        item = ItemEntity.builder()
+                .name("Vintage watch")
+                .description("A 1960s mechanical wrist watch in working condition")
+                .category(ItemEntity.ItemCategory.COLLECTIBLES)
+                .condition(ItemEntity.ItemCondition.EXCELLENT)
+                .ownerId(UUID.randomUUID())
+                .startingPrice(Money.of("100.00"))
+                .reservePrice(Money.of("250.00"))
+                .bidIncrement(Money.of("5.00"))
+                .build();
+        item.setId(UUID.randomUUID());
+        item.setCreatedAt(now);
+        item.setUpdatedAt(now);
+
+        // Same settings as the Spring Boot auto-configured mapper
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        singleResponse = new ApiResponse<>(true, "Auction details retrieved successfully", AuctionResponse.fromEntity(auction));
+        List<ItemResponsePublic> items = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            items.add(ItemResponsePublic.fromEntity(item));
+        }
+        listResponse = new ApiResponse<>(true, "Public item details retrieved successfully", items);
+    }
+
+    @Benchmark
+    public AuctionResponse auctionResponseFromEntity() {
+        return AuctionResponse.fromEntity(auction);
+    }
+
+    @Benchmark
+    public ItemResponsePublic itemResponsePublicFromEntity() {
+        return ItemResponsePublic.fromEntity(item);
+    }
+
+    @Benchmark
+    public byte[] serializeAuctionResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(singleResponse);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public byte[] serializeItemPage() throws Exception {
+        return objectMapper.writeValueAsBytes(listResponse);
+    }
+}
@@ -0,0 +1,49 @@
+package com.liveauction.benchmarks;
+
+import com.liveauction.userandauthentication.entity.PermissionEntity;
+import com.liveauction.userandauthentication.entity.RoleEntity;
+import com.liveauction.userandauthentication.entity.UserEntity;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Flattening roles into permission authorities, done on login and token generation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UserAuthoritiesBenchmark {
+
+    @Param({"1", "4"})
+    private int roleCount;
+
+    private UserEntity user;
+
+    @Setup
+    public void setUp() {
+        Set<RoleEntity> roles = new HashSet<>();
+        for (int r = 0; r < roleCount; r++) {
+            Set<PermissionEntity> permissions = new HashSet<>();
+            for (int p = 0; p < 8; p++) {
+                permissions.add(PermissionEntity.builder().name("PERMISSION_" + r + "_" + p).build());
+            }
+            roles.add(RoleEntity.builder().name("ROLE_" + r).permissions(permissions).build());
+        }
+        user = UserEntity.builder()
+                .username("bench")
+                .email("bench@liveauction.com")
+                .password("ignored")
+                .roles(roles)
+                .build();
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return user.getAuthorities();
+    }
+}
@@ -33,6 +33,9 @@ func main() {
 	}
 	fmt.Println("RabbitMQ Producer initialized")
 
+	// Trending events are published off the rooms' goroutines
+	messaging.StartBidPlacedPublisher()
+
 	// Start RabbitMQ Consumer
 	go messaging.StartConsumer(auctionHub.CreateRoom)
 	fmt.Println("RabbitMQ Consumer started")
@@ -70,7 +70,7 @@ func WebSocketHandler(h *hub.Hub) gin.HandlerFunc {
 
 		// 8. Register client
 		room.Mutex.Lock()
-		room.BiddersInAuction[userId] = conn
+		room.BiddersInAuction[userId] = models.NewClient(conn)
 		room.Mutex.Unlock()
 
 		log.Printf("User %s (%s) connected to auction %s", username, userId, auctionId)
@@ -122,5 +122,5 @@ func handlePlaceBid(room *models.AuctionRoom, userId, username string, msg map[s
 		BidPlacedAt:         time.Now(),
 	}
 
-	room.BidChannel <- bid
+	room.PlaceBid(bid)
 }
@@ -4,8 +4,6 @@ import (
 	"BiddingEngine/messaging"
 	"BiddingEngine/models"
 	"sync"
-
-	"github.com/gorilla/websocket"
 )
 
 type Hub struct {
@@ -29,17 +27,20 @@ func (h *Hub) CreateRoom(event models.AuctionStartedEvent) error {
 		HighestBidderID:  "-1",
 		AuctioneerID:     event.AuctioneerID,
 		BidIncrement:     event.BidIncrement,
-		BiddersInAuction: make(map[string]*websocket.Conn),
+		BiddersInAuction: make(map[string]*models.Client),
 		StartTime:        event.StartTime,
 		EndTime:          event.EndTime,
 		Status:           "PENDING",
 		BidHistory:       []models.Bid{},
 		Mutex:            sync.RWMutex{},
-		BidChannel:       make(chan models.Bid, 100),
+		BidChannel:       make(chan models.Bid, models.BidQueueCapacity),
 	}
 	h.rooms[id] = &room
-	room.Start(func(completedEvent models.AuctionCompletedEvent) {
+	room.Start(func(bidEvent models.BidPlacedEvent) {
+		messaging.OfferBidPlaced(bidEvent)
+	}, func(completedEvent models.AuctionCompletedEvent, history models.BidHistoryEvent) {
 		messaging.PublishAuctionCompleted(completedEvent)
+		messaging.PublishBidHistory(history)
 	})
 	return nil
 }
@@ -0,0 +1,40 @@
+package messaging
+
+import (
+	"BiddingEngine/models"
+	"testing"
+)
+
+func TestOfferDropsWhenBufferIsFull(t *testing.T) {
+	buffer := newBidPlacedBuffer(2)
+	event := models.BidPlacedEvent{AuctionID: "auction", BidderID: "bidder", Amount: 101}
+
+	// Nothing drains the buffer, as with a blocked broker: offers must not block
+	if !buffer.offer(event) || !buffer.offer(event) {
+		t.Fatal("offer rejected before the buffer was full")
+	}
+	if buffer.offer(event) {
+		t.Fatal("offer queued past capacity")
+	}
+	if dropped := buffer.dropped.Load(); dropped != 1 {
+		t.Fatalf("dropped = %d, want 1", dropped)
+	}
+}
+
+func TestDrainPublishesInOrder(t *testing.T) {
+	buffer := newBidPlacedBuffer(3)
+	for _, amount := range []float64{101, 102, 103} {
+		buffer.offer(models.BidPlacedEvent{AuctionID: "auction", Amount: amount})
+	}
+	close(buffer.events)
+
+	var published []float64
+	buffer.drain(func(event models.BidPlacedEvent) error {
+		published = append(published, event.Amount)
+		return nil
+	})
+
+	if len(published) != 3 || published[0] != 101 || published[1] != 102 || published[2] != 103 {
+		t.Fatalf("published %v, want [101 102 103]", published)
+	}
+}
@@ -1,6 +1,9 @@
 package models
 
-import "time"
+import (
+	"math"
+	"time"
+)
 
 type Bid struct {
 	BidAmount           float64
@@ -8,3 +11,9 @@ type Bid struct {
 	BidPlacedByUsername string
 	BidPlacedAt         time.Time
 }
+
+// toCents rounds an amount from the wire to whole cents, so bids compare
+// exactly instead of in float64.
+func toCents(amount float64) int64 {
+	return int64(math.Round(amount * 100))
+}
@@ -0,0 +1,27 @@
+package models
+
+import "sync"
+
+// jsonWriter is the part of *websocket.Conn a Client writes through.
+type jsonWriter interface {
+	WriteJSON(v interface{}) error
+}
+
+// Client is one bidder's WebSocket connection. Gorilla allows one concurrent
+// writer per connection, and both the room goroutine (broadcasts, rejections
+// from acceptBid) and the connection's reader goroutine (rejections from
+// Enqueue) write to it, so every write goes through the client's lock.
+type Client struct {
+	conn jsonWriter
+	mu   sync.Mutex
+}
+
+func NewClient(conn jsonWriter) *Client {
+	return &Client{conn: conn}
+}
+
+func (c *Client) WriteJSON(message interface{}) error {
+	c.mu.Lock()
+	defer c.mu.Unlock()
+	return c.conn.WriteJSON(message)
+}
@@ -23,3 +23,24 @@ type AuctionCancelledEvent struct {
 	AuctionID string `json:"auctionId"`
 	Reason    string `json:"reason"`
 }
+
+// BidPlacedEvent is published for every accepted bid (feeds trending in the Auction service)
+type BidPlacedEvent struct {
+	AuctionID string    `json:"auctionId"`
+	BidderID  string    `json:"bidderId"`
+	Amount    float64   `json:"amount"`
+	PlacedAt  time.Time `json:"placedAt"`
+}
+
+// BidHistoryEvent carries every accepted bid of a finished room so the
+// Auction service can compact it into its bid-history store
+type BidHistoryEvent struct {
+	AuctionID string      `json:"auctionId"`
+	Bids      []BidRecord `json:"bids"`
+}
+
+type BidRecord struct {
+	BidderID string    `json:"bidderId"`
+	Amount   float64   `json:"amount"`
+	PlacedAt time.Time `json:"placedAt"`
+}
@@ -4,27 +4,37 @@ import (
 	"fmt"
 	"log"
 	"sync"
+	"sync/atomic"
 	"time"
-
-	"github.com/gorilla/websocket"
 )
 
+// BidQueueCapacity bounds the bids waiting for a room's engine goroutine.
+// The channel holds Bid values in a buffer allocated once with the room,
+// so queueing a bid does not allocate.
+const BidQueueCapacity = 100
+
 type AuctionRoom struct {
 	ID               string
 	HighestBid       float64
 	HighestBidderID  string
 	AuctioneerID     string
 	BidIncrement     float64
-	BiddersInAuction map[string]*websocket.Conn
+	BiddersInAuction map[string]*Client
 	StartTime        time.Time
 	EndTime          time.Time
 	Status           string
 	BidHistory       []Bid
 	Mutex            sync.RWMutex
 	BidChannel       chan Bid
+
+	// minNextBid is the lowest acceptable next bid in cents. acceptBid raises it
+	// under the room lock; Enqueue reads it without locking.
+	minNextBid atomic.Int64
 }
 
-func (r *AuctionRoom) Start(onAuctionEnd func(AuctionCompletedEvent)) {
+func (r *AuctionRoom) Start(onBidPlaced func(BidPlacedEvent), onAuctionEnd func(AuctionCompletedEvent, BidHistoryEvent)) {
+	r.minNextBid.Store(toCents(r.HighestBid) + toCents(r.BidIncrement))
+
 	go func() {
 		r.Mutex.Lock()
 		r.Status = "ACTIVE"
@@ -35,37 +45,19 @@ func (r *AuctionRoom) Start(onAuctionEnd func(AuctionCompletedEvent)) {
 
 		for {
 			select {
-			case bid := <-r.BidChannel:
-				r.Mutex.Lock()
-
-				// Validate: not auctioneer
-				if bid.BidPlacedById == r.AuctioneerID {
-					r.Mutex.Unlock()
-					r.SendToClient(bid.BidPlacedById, BidRejectedMessage{
-						Type:      "BID_REJECTED",
-						AuctionID: r.ID,
-						Reason:    "Self-bidding not allowed",
-					})
-					continue
+			case bid, ok := <-r.BidChannel:
+				if !ok {
+					return // Stopped from outside, e.g. Hub.EndRoom
 				}
-
-				// Validate: bid is high enough
-				if bid.BidAmount < r.HighestBid+r.BidIncrement {
-					r.Mutex.Unlock()
+				if reason, ok := r.acceptBid(bid); !ok {
 					r.SendToClient(bid.BidPlacedById, BidRejectedMessage{
 						Type:      "BID_REJECTED",
 						AuctionID: r.ID,
-						Reason:    fmt.Sprintf("Bid too low. Must be at least %.2f", r.HighestBid+r.BidIncrement),
+						Reason:    reason,
 					})
 					continue
 				}
 
-				// Valid bid - update state
-				r.HighestBid = bid.BidAmount
-				r.HighestBidderID = bid.BidPlacedById
-				r.BidHistory = append(r.BidHistory, bid)
-
-				r.Mutex.Unlock()
 				r.BroadcastToAll(BidPlacedMessage{
 					Type:          "BID_PLACED",
 					AuctionID:     r.ID,
@@ -74,6 +66,13 @@ func (r *AuctionRoom) Start(onAuctionEnd func(AuctionCompletedEvent)) {
 					Timestamp:     bid.BidPlacedAt,
 				})
 
+				onBidPlaced(BidPlacedEvent{
+					AuctionID: r.ID,
+					BidderID:  bid.BidPlacedById,
+					Amount:    bid.BidAmount,
+					PlacedAt:  bid.BidPlacedAt,
+				})
+
 			case <-ticker.C:
 				if time.Now().After(r.EndTime) {
 					r.Mutex.RLock()
@@ -82,9 +81,10 @@ func (r *AuctionRoom) Start(onAuctionEnd func(AuctionCompletedEvent)) {
 						WinnerID:         r.HighestBidderID,
 						WinningBidAmount: r.HighestBid,
 					}
+					history := r.bidHistoryEvent()
 					r.Mutex.RUnlock()
 
-					onAuctionEnd(event)
+					onAuctionEnd(event, history)
 
 					// Broadcast to WebSocket clients
 					r.BroadcastToAll(AuctionEndedMessage{
@@ -101,25 +101,111 @@ func (r *AuctionRoom) Start(onAuctionEnd func(AuctionCompletedEvent)) {
 		}
 	}()
 }
+
+// Enqueue hands a bid to the room's engine goroutine without blocking.
+// Returns the rejection reason and false when the bid is below the current
+// minimum, the room has stopped or its queue is full, so a burst is shed
+// instead of stalling the connection.
+func (r *AuctionRoom) Enqueue(bid Bid) (string, bool) {
+	// The minimum only rises, so a bid below a stale read is still too low.
+	// In a bidding war most bids lose this way and never reach the queue or the lock.
+	if minimum := r.minNextBid.Load(); toCents(bid.BidAmount) < minimum {
+		return bidTooLow(minimum), false
+	}
+
+	// Stop closes BidChannel under the write lock, so it stays open while we hold the read lock
+	r.Mutex.RLock()
+	defer r.Mutex.RUnlock()
+
+	if r.Status == "FINISHED" {
+		return "Auction has ended", false
+	}
+
+	select {
+	case r.BidChannel <- bid:
+		return "", true
+	default:
+		return "Too many bids right now, please retry", false
+	}
+}
+
+// PlaceBid queues a bid from the bidder's connection and tells the bidder
+// right away when Enqueue rejects it.
+func (r *AuctionRoom) PlaceBid(bid Bid) {
+	if reason, ok := r.Enqueue(bid); !ok {
+		r.SendToClient(bid.BidPlacedById, BidRejectedMessage{
+			Type:      "BID_REJECTED",
+			AuctionID: r.ID,
+			Reason:    reason,
+		})
+	}
+}
+
+// acceptBid validates a bid against the room state and records it if valid.
+// Returns the rejection reason and false when the bid is not accepted.
+func (r *AuctionRoom) acceptBid(bid Bid) (string, bool) {
+	r.Mutex.Lock()
+	defer r.Mutex.Unlock()
+
+	// Validate: not auctioneer
+	if bid.BidPlacedById == r.AuctioneerID {
+		return "Self-bidding not allowed", false
+	}
+
+	// Validate: bid is high enough, compared in cents like the Enqueue fast path
+	minimum := toCents(r.HighestBid) + toCents(r.BidIncrement)
+	if toCents(bid.BidAmount) < minimum {
+		return bidTooLow(minimum), false
+	}
+
+	// Valid bid - update state
+	r.HighestBid = bid.BidAmount
+	r.HighestBidderID = bid.BidPlacedById
+	r.BidHistory = append(r.BidHistory, bid)
+	r.minNextBid.Store(toCents(bid.BidAmount) + toCents(r.BidIncrement))
+	return "", true
+}
+
+func bidTooLow(minimumCents int64) string {
+	return fmt.Sprintf("Bid too low. Must be at least %d.%02d", minimumCents/100, minimumCents%100)
+}
+
+// bidHistoryEvent copies the accepted bids. Caller must hold the room lock.
+func (r *AuctionRoom) bidHistoryEvent() BidHistoryEvent {
+	bids := make([]BidRecord, len(r.BidHistory))
+	for i, bid := range r.BidHistory {
+		bids[i] = BidRecord{
+			BidderID: bid.BidPlacedById,
+			Amount:   bid.BidAmount,
+			PlacedAt: bid.BidPlacedAt,
+		}
+	}
+	return BidHistoryEvent{AuctionID: r.ID, Bids: bids}
+}
+
 func (r *AuctionRoom) Stop() {
 	r.Mutex.Lock()
+	if r.Status == "FINISHED" {
+		r.Mutex.Unlock()
+		return
+	}
 	r.Status = "FINISHED"
+	close(r.BidChannel)
 	r.Mutex.Unlock()
 
-	close(r.BidChannel)
 	fmt.Printf("AuctionRoom %s stopped. Winner: %s with bid: %.2f\n",
 		r.ID, r.HighestBidderID, r.HighestBid)
 }
 func (r *AuctionRoom) SendToClient(userId string, message interface{}) {
 	r.Mutex.RLock()
-	conn, exists := r.BiddersInAuction[userId]
+	client, exists := r.BiddersInAuction[userId]
 	r.Mutex.RUnlock()
 
 	if !exists {
 		return
 	}
 
-	err := conn.WriteJSON(message)
+	err := client.WriteJSON(message)
 	if err != nil {
 		log.Printf("Error sending to client %s: %v", userId, err)
 	}
@@ -127,8 +213,8 @@ func (r *AuctionRoom) SendToClient(userId string, message interface{}) {
 func (r *AuctionRoom) BroadcastToAll(message interface{}) {
 	r.Mutex.RLock()
 	defer r.Mutex.RUnlock()
-	for userId, conn := range r.BiddersInAuction {
-		err := conn.WriteJSON(message)
+	for userId, client := range r.BiddersInAuction {
+		err := client.WriteJSON(message)
 		if err != nil {
 			log.Printf("Error broadcasting to client %s: %v", userId, err)
 		}
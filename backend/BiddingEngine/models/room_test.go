@@ -0,0 +1,219 @@
+package models
+
+import (
+	"sync"
+	"sync/atomic"
+	"testing"
+	"time"
+)
+
+// Run with: go test ./models -run '^$' -bench AcceptBid -benchmem -json
+func newBenchmarkRoom() *AuctionRoom {
+	return &AuctionRoom{
+		ID:              "benchmark",
+		HighestBid:      100,
+		HighestBidderID: "-1",
+		AuctioneerID:    "auctioneer",
+		BidIncrement:    1,
+		Status:          "ACTIVE",
+		BidHistory:      []Bid{},
+	}
+}
+
+func BenchmarkAcceptBid(b *testing.B) {
+	room := newBenchmarkRoom()
+	now := time.Now()
+	b.ReportAllocs()
+	b.ResetTimer()
+	for i := 0; i < b.N; i++ {
+		bid := Bid{
+			BidAmount:     room.HighestBid + room.BidIncrement,
+			BidPlacedById: "bidder",
+			BidPlacedAt:   now,
+		}
+		if _, ok := room.acceptBid(bid); !ok {
+			b.Fatal("valid bid rejected")
+		}
+	}
+}
+
+func BenchmarkRejectLowBid(b *testing.B) {
+	room := newBenchmarkRoom()
+	bid := Bid{BidAmount: 50, BidPlacedById: "bidder", BidPlacedAt: time.Now()}
+	b.ReportAllocs()
+	b.ResetTimer()
+	for i := 0; i < b.N; i++ {
+		if _, ok := room.acceptBid(bid); ok {
+			b.Fatal("low bid accepted")
+		}
+	}
+}
+
+func BenchmarkEnqueueFull(b *testing.B) {
+	room := newBenchmarkRoom()
+	room.BidChannel = make(chan Bid, BidQueueCapacity)
+	bid := Bid{BidAmount: 101, BidPlacedById: "bidder", BidPlacedAt: time.Now()}
+	for {
+		if _, ok := room.Enqueue(bid); !ok {
+			break
+		}
+	}
+	b.ReportAllocs()
+	b.ResetTimer()
+	for i := 0; i < b.N; i++ {
+		if _, ok := room.Enqueue(bid); ok {
+			b.Fatal("bid queued past capacity")
+		}
+	}
+}
+
+func BenchmarkEnqueueTooLow(b *testing.B) {
+	room := newBenchmarkRoom()
+	room.BidChannel = make(chan Bid, BidQueueCapacity)
+	room.minNextBid.Store(toCents(room.HighestBid + room.BidIncrement))
+	bid := Bid{BidAmount: 50, BidPlacedById: "bidder", BidPlacedAt: time.Now()}
+	b.ReportAllocs()
+	b.ResetTimer()
+	for i := 0; i < b.N; i++ {
+		if _, ok := room.Enqueue(bid); ok {
+			b.Fatal("low bid queued")
+		}
+	}
+}
+
+// newTestRoom returns a room ready for Enqueue and acceptBid, with the minimum
+// next bid set the way Start sets it, but without the engine goroutine.
+func newTestRoom(highestBid, bidIncrement float64) *AuctionRoom {
+	room := newBenchmarkRoom()
+	room.HighestBid = highestBid
+	room.BidIncrement = bidIncrement
+	room.BidChannel = make(chan Bid, BidQueueCapacity)
+	room.minNextBid.Store(toCents(highestBid) + toCents(bidIncrement))
+	return room
+}
+
+func TestEnqueueAfterStop(t *testing.T) {
+	room := newTestRoom(100, 1)
+	room.Stop()
+	room.Stop() // a second Stop must not close the channel again
+
+	reason, ok := room.Enqueue(Bid{BidAmount: 200, BidPlacedById: "bidder", BidPlacedAt: time.Now()})
+	if ok {
+		t.Fatal("bid queued on a stopped room")
+	}
+	if reason != "Auction has ended" {
+		t.Fatalf("reason = %q, want %q", reason, "Auction has ended")
+	}
+}
+
+func TestEnqueueShedsWhenQueueIsFull(t *testing.T) {
+	room := newTestRoom(100, 1)
+	bid := Bid{BidAmount: 101, BidPlacedById: "bidder", BidPlacedAt: time.Now()}
+	for i := 0; i < BidQueueCapacity; i++ {
+		if reason, ok := room.Enqueue(bid); !ok {
+			t.Fatalf("bid %d rejected before the queue was full: %s", i, reason)
+		}
+	}
+
+	reason, ok := room.Enqueue(bid)
+	if ok {
+		t.Fatal("bid queued past capacity")
+	}
+	if reason != "Too many bids right now, please retry" {
+		t.Fatalf("reason = %q", reason)
+	}
+	if len(room.BidChannel) != BidQueueCapacity {
+		t.Fatalf("queue holds %d bids, want %d", len(room.BidChannel), BidQueueCapacity)
+	}
+}
+
+func TestBidBelowMinimumIsRejected(t *testing.T) {
+	room := newTestRoom(100, 1)
+	bid := Bid{BidAmount: 100.99, BidPlacedById: "bidder", BidPlacedAt: time.Now()}
+	want := "Bid too low. Must be at least 101.00"
+
+	if reason, ok := room.Enqueue(bid); ok || reason != want {
+		t.Fatalf("Enqueue = (%q, %v), want (%q, false)", reason, ok, want)
+	}
+	if len(room.BidChannel) != 0 {
+		t.Fatal("rejected bid reached the queue")
+	}
+	if reason, ok := room.acceptBid(bid); ok || reason != want {
+		t.Fatalf("acceptBid = (%q, %v), want (%q, false)", reason, ok, want)
+	}
+	if room.HighestBid != 100 {
+		t.Fatalf("HighestBid = %v, want 100", room.HighestBid)
+	}
+}
+
+func TestExactIncrementIsAccepted(t *testing.T) {
+	// 100.1 + 0.2 is 100.30000000000001 as a float64, so a float comparison
+	// would reject a bid of exactly 100.3
+	room := newTestRoom(100.1, 0.2)
+	bid := Bid{BidAmount: 100.3, BidPlacedById: "bidder", BidPlacedAt: time.Now()}
+
+	if reason, ok := room.Enqueue(bid); !ok {
+		t.Fatalf("Enqueue rejected the exact increment: %s", reason)
+	}
+	if reason, ok := room.acceptBid(<-room.BidChannel); !ok {
+		t.Fatalf("acceptBid rejected the exact increment: %s", reason)
+	}
+	if room.HighestBid != 100.3 || room.HighestBidderID != "bidder" {
+		t.Fatalf("highest bid = %v by %s, want 100.3 by bidder", room.HighestBid, room.HighestBidderID)
+	}
+	if minimum := room.minNextBid.Load(); minimum != 10050 {
+		t.Fatalf("minNextBid = %d, want 10050", minimum)
+	}
+}
+
+// recordingConn stands in for a *websocket.Conn. messages is appended without
+// a lock on purpose: under -race, two writers at once are reported as a race.
+type recordingConn struct {
+	writing  atomic.Int32
+	overlaps atomic.Int32
+	messages []interface{}
+}
+
+func (c *recordingConn) WriteJSON(v interface{}) error {
+	if c.writing.Add(1) > 1 {
+		c.overlaps.Add(1)
+	}
+	c.messages = append(c.messages, v)
+	c.writing.Add(-1)
+	return nil
+}
+
+// Run with -race: fast rejections are written from the bidder's reader goroutine
+// while the room goroutine broadcasts to the same connection.
+func TestRejectionsAndBroadcastsDoNotWriteConcurrently(t *testing.T) {
+	const rounds = 500
+	room := newTestRoom(100, 1)
+	conn := &recordingConn{}
+	room.BiddersInAuction = map[string]*Client{"bidder": NewClient(conn)}
+
+	var wg sync.WaitGroup
+	wg.Add(2)
+	go func() {
+		defer wg.Done()
+		for i := 0; i < rounds; i++ {
+			room.PlaceBid(Bid{BidAmount: 50, BidPlacedById: "bidder", BidPlacedAt: time.Now()})
+		}
+	}()
+	go func() {
+		defer wg.Done()
+		for i := 0; i < rounds; i++ {
+			room.BroadcastToAll(BidPlacedMessage{Type: "BID_PLACED", AuctionID: room.ID})
+		}
+	}()
+	wg.Wait()
+
+	if overlaps := conn.overlaps.Load(); overlaps != 0 {
+		t.Fatalf("%d writes overlapped on one connection", overlaps)
+	}
+	if len(conn.messages) != 2*rounds {
+		t.Fatalf("connection got %d messages, want %d", len(conn.messages), 2*rounds)
+	}
+	if len(room.BidChannel) != 0 {
+		t.Fatal("a bid below the minimum reached the queue")
+	}
+}
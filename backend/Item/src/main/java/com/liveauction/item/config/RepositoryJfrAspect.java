@@ -0,0 +1,21 @@
+package com.liveauction.item.config;
+
+import com.liveauction.item.repository.ItemRepository;
+import com.liveauction.shared.jfr.RepositoryCallRecorder;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Flight Recorder events for repository calls.
+ */
+@Aspect
+@Component
+public class RepositoryJfrAspect {
+
+    @Around("this(com.liveauction.item.repository.ItemRepository)")
+    public Object itemRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return RepositoryCallRecorder.record(joinPoint, ItemRepository.class.getSimpleName(), RepositoryCallRecorder.ITEM);
+    }
+}
@@ -3,6 +3,7 @@ package com.liveauction.item.config;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -30,6 +31,10 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         // Public endpoints (anyone can view approved items)
                         .requestMatchers("/api/v1/items/{itemId}").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/v1/items/batch").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/items/*/media", "/api/v1/items/media/*").permitAll()
+                        // Only reachable on management.server.port
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                         // All other endpoints require authentication
                         .anyRequest().authenticated()
                 )
@@ -1,18 +1,24 @@
 package com.liveauction.item.controller;
 
+import com.liveauction.item.dto.request.BatchItemLookupRequest;
 import com.liveauction.item.dto.request.CreateItemRequest;
 import com.liveauction.item.dto.request.UpdateItemRequest;
+import com.liveauction.item.dto.response.ItemImportResponse;
 import com.liveauction.item.dto.response.ItemResponse;
 import com.liveauction.item.dto.response.ItemResponseAuctioneer;
 import com.liveauction.item.dto.response.ItemResponsePartial;
 import com.liveauction.item.dto.response.ItemResponsePublic;
+import com.liveauction.item.service.ItemImportService;
 import com.liveauction.item.service.ItemService;
 import com.liveauction.shared.dto.response.ApiResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
 
@@ -22,6 +28,7 @@ import java.util.UUID;
 public class ItemController {
 
     private final ItemService itemService;
+    private final ItemImportService itemImportService;
 
     /**
      * POST /api/v1/items
@@ -36,6 +43,23 @@ public class ItemController {
         return ResponseEntity.status(201).body(apiResponse);
     }
 
+    /**
+     * POST /api/v1/items/import
+     * Bulk import items from a streamed NDJSON (application/x-ndjson) or CSV (text/csv) body
+     */
+    @PostMapping(value = "/import", consumes = {ItemImportService.NDJSON, ItemImportService.CSV})
+    public ResponseEntity<ApiResponse<ItemImportResponse>> importItems(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body
+    ) throws IOException {
+        ItemImportResponse response = itemImportService.importItems(body, contentType);
+        String message = response.failedRows() == 0
+                ? "Items imported successfully"
+                : "Items imported with " + response.failedRows() + " failed rows";
+        ApiResponse<ItemImportResponse> apiResponse = new ApiResponse<>(true, message, response);
+        return ResponseEntity.status(201).body(apiResponse);
+    }
+
     /**
      * PUT /api/v1/items/{itemId}
      * Update an existing item
@@ -87,6 +111,19 @@ public class ItemController {
         return ResponseEntity.ok(apiResponse);
     }
 
+    /**
+     * POST /api/v1/items/batch
+     * Get public details of many items in one call (anyone can view)
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<ApiResponse<List<ItemResponsePublic>>> getPublicItemDetailsBatch(
+            @Valid @RequestBody BatchItemLookupRequest request
+    ) {
+        List<ItemResponsePublic> response = itemService.getPublicItemDetailsBatch(request.itemIds());
+        ApiResponse<List<ItemResponsePublic>> apiResponse = new ApiResponse<>(true, "Public item details retrieved successfully", response);
+        return ResponseEntity.ok(apiResponse);
+    }
+
     @GetMapping("/listed-for-claims")
     public ResponseEntity<ApiResponse<List<ItemResponsePublic>>> listItemsForClaims() {
         List<ItemResponsePublic> response = itemService.getItemsListedForClaiming();
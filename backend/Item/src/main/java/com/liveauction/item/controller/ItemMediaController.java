@@ -0,0 +1,196 @@
+package com.liveauction.item.controller;
+
+import com.liveauction.item.dto.response.ItemMediaResponse;
+import com.liveauction.item.service.ItemMediaService;
+import com.liveauction.item.service.MediaStorageService;
+import com.liveauction.shared.dto.response.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/v1/items")
+@RequiredArgsConstructor
+public class ItemMediaController {
+
+    // Content-addressed files never change, so caches may keep them forever
+    private static final String CACHE_FOREVER = "public, max-age=31536000, immutable";
+
+    // Tomcat sendfile request attributes (see org.apache.coyote.Constants / Globals)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    private static final long SENDFILE_MIN_BYTES = 48 * 1024; // Same cut-off as Tomcat's DefaultServlet
+
+    private final ItemMediaService itemMediaService;
+    private final MediaStorageService mediaStorage;
+
+    /**
+     * POST /api/v1/items/{itemId}/media
+     * Upload an image for an item (owner only)
+     */
+    @PostMapping(value = "/{itemId}/media", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<ItemMediaResponse>> uploadMedia(
+            @PathVariable UUID itemId,
+            @RequestParam("file") MultipartFile file
+    ) throws IOException {
+        ItemMediaResponse response = itemMediaService.uploadMedia(itemId, file);
+        ApiResponse<ItemMediaResponse> apiResponse = new ApiResponse<>(true, "Media uploaded successfully", response);
+        return ResponseEntity.status(HttpStatus.CREATED).body(apiResponse);
+    }
+
+    /**
+     * GET /api/v1/items/{itemId}/media
+     * List the images of an item (anyone can view)
+     */
+    @GetMapping("/{itemId}/media")
+    public ResponseEntity<ApiResponse<List<ItemMediaResponse>>> listMedia(
+            @PathVariable UUID itemId
+    ) {
+        List<ItemMediaResponse> response = itemMediaService.listMedia(itemId);
+        ApiResponse<List<ItemMediaResponse>> apiResponse = new ApiResponse<>(true, "Item media retrieved successfully", response);
+        return ResponseEntity.ok(apiResponse);
+    }
+
+    /**
+     * GET /api/v1/items/media/{fileName}
+     * Serve an image or thumbnail straight from disk
+     * - ETag is the content hash, so revalidation never touches the file
+     * - Supports a single byte range (Range: bytes=start-end)
+     * - Large files go out through Tomcat sendfile (zero-copy) when the connector supports it,
+     *   everything else is copied through the response stream
+     */
+    @GetMapping("/media/{fileName:.+}")
+    public void serveMedia(
+            @PathVariable String fileName,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException {
+        Path path = mediaStorage.resolve(fileName);
+        if (path == null || !Files.isRegularFile(path)) {
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+
+        String etag = "\"" + fileName.substring(0, fileName.lastIndexOf('.')) + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_FOREVER);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (matchesEtag(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        long size = Files.size(path);
+        long start = 0;
+        long end = size - 1;
+        String range = request.getHeader(HttpHeaders.RANGE);
+        // Multi-range requests are answered with the whole file, which RFC 9110 allows
+        if (range != null && range.startsWith("bytes=") && !range.contains(",")) {
+            long[] bounds = parseRange(range.substring("bytes=".length()).trim(), size);
+            if (bounds == null) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+            start = bounds[0];
+            end = bounds[1];
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+        }
+
+        long length = end - start + 1;
+        response.setContentType(contentType(fileName));
+        response.setContentLengthLong(length);
+        if ("HEAD".equals(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        if (length >= SENDFILE_MIN_BYTES && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // Tomcat writes the file with FileChannel.transferTo after the handler returns
+            request.setAttribute(SENDFILE_FILENAME, path.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        // Copying fallback for small files and connectors without sendfile (e.g. TLS):
+        // the target is a stream wrapper, so transferTo copies through a heap buffer here
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position <= end) {
+                position += channel.transferTo(position, end + 1 - position, out);
+            }
+        }
+    }
+
+    /**
+     * Parse "start-end", "start-" or "-suffixLength" against the file size.
+     * Returns null if the range cannot be satisfied.
+     */
+    private long[] parseRange(String spec, long size) {
+        int dash = spec.indexOf('-');
+        if (dash < 0 || size == 0) {
+            return null;
+        }
+        try {
+            long start;
+            long end = size - 1;
+            if (dash == 0) {
+                long suffix = Long.parseLong(spec.substring(1));
+                if (suffix == 0) {
+                    return null;
+                }
+                start = Math.max(0, size - suffix);
+            } else {
+                start = Long.parseLong(spec.substring(0, dash));
+                if (dash < spec.length() - 1) {
+                    end = Math.min(Long.parseLong(spec.substring(dash + 1)), size - 1);
+                }
+            }
+            return start <= end ? new long[]{start, end} : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(etag) || value.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private String contentType(String fileName) {
+        return switch (fileName.substring(fileName.lastIndexOf('.') + 1)) {
+            case "jpg" -> MediaType.IMAGE_JPEG_VALUE;
+            case "png" -> MediaType.IMAGE_PNG_VALUE;
+            case "gif" -> MediaType.IMAGE_GIF_VALUE;
+            case "webp" -> "image/webp";
+            default -> MediaType.APPLICATION_OCTET_STREAM_VALUE;
+        };
+    }
+}
@@ -0,0 +1,14 @@
+package com.liveauction.item.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+public record BatchItemLookupRequest(
+        @NotEmpty(message = "At least one item ID is required")
+        @Size(max = 500, message = "At most 500 item IDs can be looked up at once")
+        List<@NotNull(message = "Item ID must not be null") UUID> itemIds
+) {}
@@ -0,0 +1,16 @@
+package com.liveauction.item.dto.response;
+
+import java.util.List;
+
+public record ItemImportResponse(
+    int totalRows,
+    int importedRows,
+    int failedRows,
+    List<RowError> errors
+) {
+    public record RowError(
+        long row,
+        String field,
+        String message
+    ) {}
+}
@@ -0,0 +1,27 @@
+package com.liveauction.item.dto.response;
+
+import com.liveauction.item.entity.ItemMediaEntity;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public record ItemMediaResponse(
+    UUID mediaId,
+    UUID itemId,
+    String url,
+    String thumbnailUrl,
+    long sizeBytes,
+    Instant createdAt
+) {
+    public static ItemMediaResponse fromEntity(ItemMediaEntity media) {
+        String base = "/api/v1/items/media/" + media.getContentHash();
+        return new ItemMediaResponse(
+            media.getId(),
+            media.getItemId(),
+            base + "." + media.getExtension(),
+            media.isThumbnailReady() ? base + "_thumb.jpg" : null,
+            media.getSizeBytes(),
+            media.getCreatedAt()
+        );
+    }
+}
@@ -1,8 +1,8 @@
 package com.liveauction.item.dto.response;
 
 import com.liveauction.item.entity.ItemEntity;
+import com.liveauction.shared.money.Money;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.UUID;
 
@@ -14,9 +14,9 @@ public record ItemResponse(
     String condition,
     UUID ownerId,
     String status,
-    BigDecimal startingPrice,
-    BigDecimal reservePrice,
-    BigDecimal bidIncrement,
+    Money startingPrice,
+    Money reservePrice,
+    Money bidIncrement,
     Instant createdAt,
     Instant updatedAt
 ) {
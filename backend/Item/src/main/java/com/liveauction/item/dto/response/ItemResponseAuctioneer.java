@@ -1,8 +1,8 @@
 package com.liveauction.item.dto.response;
 
 import com.liveauction.item.entity.ItemEntity;
+import com.liveauction.shared.money.Money;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.UUID;
 
@@ -13,9 +13,9 @@ public record ItemResponseAuctioneer(
         String category,
         String condition,
         String status,
-        BigDecimal startingPrice,
-        BigDecimal reservePrice,
-        BigDecimal bidIncrement
+        Money startingPrice,
+        Money reservePrice,
+        Money bidIncrement
 ) {
     public static ItemResponseAuctioneer toResponse(ItemEntity item){
         return new ItemResponseAuctioneer(
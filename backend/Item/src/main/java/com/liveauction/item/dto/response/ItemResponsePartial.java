@@ -1,8 +1,8 @@
 package com.liveauction.item.dto.response;
 
 import com.liveauction.item.entity.ItemEntity;
+import com.liveauction.shared.money.Money;
 
-import java.math.BigDecimal;
 import java.util.UUID;
 
 public record ItemResponsePartial(
@@ -11,7 +11,7 @@ public record ItemResponsePartial(
     String category,
     String condition,
     String status,
-    BigDecimal startingPrice
+    Money startingPrice
 ) {
     public static ItemResponsePartial fromEntity(ItemEntity item) {
         return new ItemResponsePartial(
@@ -1,8 +1,8 @@
 package com.liveauction.item.dto.response;
 
 import com.liveauction.item.entity.ItemEntity;
+import com.liveauction.shared.money.Money;
 
-import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.UUID;
 
@@ -13,9 +13,9 @@ public record ItemResponsePublic(
     String description,
     String category,
     String condition,
-    BigDecimal startingPrice,
-    BigDecimal reservePrice,
-    BigDecimal bidIncrement,
+    Money startingPrice,
+    Money reservePrice,
+    Money bidIncrement,
     Instant createdAt
 ) {
     public static ItemResponsePublic fromEntity(ItemEntity item) {
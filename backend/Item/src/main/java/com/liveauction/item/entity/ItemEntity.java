@@ -1,9 +1,10 @@
 package com.liveauction.item.entity;
 
+import com.liveauction.shared.money.Money;
+import com.liveauction.shared.money.MoneyConverter;
 import jakarta.persistence.*;
 import lombok.*;
 
-import java.math.BigDecimal;
 import java.util.UUID;
 
 @Entity
@@ -38,13 +39,16 @@ public class ItemEntity extends BaseEntity {
     private ItemStatus status = ItemStatus.APPROVED;
     
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal startingPrice;
+    @Convert(converter = MoneyConverter.class)
+    private Money startingPrice;
     
     @Column(precision = 10, scale = 2)
-    private BigDecimal reservePrice;
+    @Convert(converter = MoneyConverter.class)
+    private Money reservePrice;
     
     @Column(nullable = false, precision = 10, scale = 2)
-    private BigDecimal bidIncrement;
+    @Convert(converter = MoneyConverter.class)
+    private Money bidIncrement;
     
     // Enums
     public enum ItemStatus {
@@ -0,0 +1,32 @@
+package com.liveauction.item.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.UUID;
+
+@Entity
+@Table(name = "item_media")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ItemMediaEntity extends BaseEntity {
+
+    @Column(nullable = false)
+    private UUID itemId; // Item the image belongs to
+
+    @Column(nullable = false, length = 64)
+    private String contentHash; // SHA-256 of the file, also its name on disk
+
+    @Column(nullable = false, length = 10)
+    private String extension; // jpg, png, gif, webp (sniffed from the file header)
+
+    @Column(nullable = false)
+    private long sizeBytes;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private boolean thumbnailReady = false; // Set once the async thumbnail job has run
+}
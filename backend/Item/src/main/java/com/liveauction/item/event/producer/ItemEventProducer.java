@@ -0,0 +1,92 @@
+package com.liveauction.item.event.producer;
+
+import com.liveauction.item.entity.ItemEntity;
+import com.liveauction.shared.events.ItemEvents.ItemCreatedEvent;
+import com.liveauction.shared.events.ItemEvents.ItemUpdatedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.stream.function.StreamBridge;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Publishes item snapshots so other services (Auction) can keep a local
+ * read model of items instead of calling the Item service.
+ * - Inside a transaction the event is sent after the commit, so a rolled back
+ *   item is never published; outside one it is sent immediately
+ */
+@Component
+@RequiredArgsConstructor
+public class ItemEventProducer {
+    private final StreamBridge streamBridge;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.bindings.item.created.routing-key}")
+    private String itemCreatedRoutingKey;
+
+    @Value("${app.bindings.item.updated.routing-key}")
+    private String itemUpdatedRoutingKey;
+
+    @Value("${app.bindings.item-event-exchange}")
+    private String itemChannel;
+
+    public void itemCreated(ItemEntity item) {
+        ItemCreatedEvent event = new ItemCreatedEvent(
+                item.getId().toString(),
+                item.getOwnerId().toString(),
+                item.getName(),
+                item.getCategory().name(),
+                item.getCondition().name(),
+                item.getStatus().name(),
+                item.getStartingPrice(),
+                item.getBidIncrement(),
+                item.getUpdatedAt()
+        );
+        send(event, itemCreatedRoutingKey);
+    }
+
+    public void itemUpdated(ItemEntity item) {
+        ItemUpdatedEvent event = new ItemUpdatedEvent(
+                item.getId().toString(),
+                item.getOwnerId().toString(),
+                item.getName(),
+                item.getCategory().name(),
+                item.getCondition().name(),
+                item.getStatus().name(),
+                item.getStartingPrice(),
+                item.getBidIncrement(),
+                item.getUpdatedAt()
+        );
+        send(event, itemUpdatedRoutingKey);
+    }
+
+    private <T> void send(T event, String routingKey) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(event, routingKey);
+                }
+            });
+        } else {
+            publish(event, routingKey);
+        }
+    }
+
+    private <T> void publish(T event, String routingKey) {
+        Message<T> message = MessageBuilder
+                .withPayload(event)
+                .setHeader("routingKey", routingKey)
+                .build();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean sent = streamBridge.send(itemChannel, message);
+        sample.stop(meterRegistry.timer("event.publish",
+                "routingKey", routingKey,
+                "result", sent ? "sent" : "failed"));
+    }
+}
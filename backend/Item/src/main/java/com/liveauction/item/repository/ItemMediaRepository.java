@@ -0,0 +1,18 @@
+package com.liveauction.item.repository;
+
+import com.liveauction.item.entity.ItemMediaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface ItemMediaRepository extends JpaRepository<ItemMediaEntity, UUID> {
+
+    // Find all images of an item, oldest first
+    List<ItemMediaEntity> findAllByItemIdOrderByCreatedAtAsc(UUID itemId);
+
+    // Find every upload of the same content (thumbnail state is shared between them)
+    List<ItemMediaEntity> findAllByContentHash(String contentHash);
+}
@@ -0,0 +1,306 @@
+package com.liveauction.item.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.liveauction.item.dto.request.CreateItemRequest;
+import com.liveauction.item.dto.response.ItemImportResponse;
+import com.liveauction.item.entity.ItemEntity;
+import com.liveauction.item.event.producer.ItemEventProducer;
+import com.liveauction.item.repository.ItemRepository;
+import com.liveauction.shared.money.Money;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ItemImportService {
+
+    public static final String NDJSON = "application/x-ndjson";
+    public static final String CSV = "text/csv";
+
+    private static final List<String> REQUIRED_CSV_COLUMNS = List.of(
+            "name", "description", "category", "condition", "startingprice", "bidincrement"
+    );
+
+    private final ItemRepository itemRepository;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ItemEventProducer itemEventProducer;
+
+    @Value("${app.items.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.items.import.max-reported-errors:1000}")
+    private int maxReportedErrors;
+
+    /**
+     * Bulk import items from a streamed NDJSON or CSV body
+     * - Read one record at a time, the body is never buffered as a whole
+     * - Validate each record against the CreateItemRequest constraints
+     * - Persist valid records in batches (JDBC batching and ordered inserts are
+     *   configured in item-defaults.properties)
+     * - Flush and clear the persistence context after each batch so memory stays flat
+     * - Publish an ItemCreatedEvent per imported item once the import commits
+     * - Collect per-row errors instead of failing the whole import
+     */
+    @Transactional
+    public ItemImportResponse importItems(InputStream body, String contentType) throws IOException {
+        boolean csv = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.parseMediaType(CSV));
+        ImportState state = new ImportState(getCurrentUserId());
+        log.info("Importing items from {} body for user {}", csv ? "CSV" : "NDJSON", state.ownerId);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            if (csv) {
+                readCsv(reader, state);
+            } else {
+                readNdjson(reader, state);
+            }
+        }
+        flush(state);
+
+        log.info("Item import finished: {} rows, {} imported, {} failed",
+                state.totalRows, state.importedRows, state.failedRows);
+        return new ItemImportResponse(state.totalRows, state.importedRows, state.failedRows, state.errors);
+    }
+
+    private void readNdjson(BufferedReader reader, ImportState state) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            long row = ++state.totalRows;
+            CreateItemRequest request;
+            try {
+                request = objectMapper.readValue(line, CreateItemRequest.class);
+            } catch (MismatchedInputException e) {
+                String field = e.getPath().isEmpty() ? null : e.getPath().get(0).getFieldName();
+                state.reject(row, field, "Invalid value: " + e.getOriginalMessage());
+                continue;
+            } catch (JsonProcessingException e) {
+                state.reject(row, null, "Malformed JSON: " + e.getOriginalMessage());
+                continue;
+            }
+            accept(row, request, state);
+        }
+    }
+
+    private void readCsv(BufferedReader reader, ImportState state) throws IOException {
+        List<String> header = readCsvRecord(reader);
+        if (header == null) {
+            return;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String column = header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+            columns.put(column, i);
+        }
+        for (String column : REQUIRED_CSV_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                throw new RuntimeException("CSV header is missing column: " + column);
+            }
+        }
+
+        List<String> values;
+        while ((values = readCsvRecord(reader)) != null) {
+            if (values.size() == 1 && values.get(0).isBlank()) {
+                continue;
+            }
+            long row = ++state.totalRows;
+            CreateItemRequest request;
+            try {
+                request = new CreateItemRequest(
+                        csvValue(values, columns, "name"),
+                        csvValue(values, columns, "description"),
+                        csvEnum(values, columns, "category", ItemEntity.ItemCategory.class),
+                        csvEnum(values, columns, "condition", ItemEntity.ItemCondition.class),
+                        csvDecimal(values, columns, "startingPrice"),
+                        csvDecimal(values, columns, "reservePrice"),
+                        csvDecimal(values, columns, "bidIncrement")
+                );
+            } catch (InvalidFieldException e) {
+                state.reject(row, e.field, e.getMessage());
+                continue;
+            }
+            accept(row, request, state);
+        }
+    }
+
+    private void accept(long row, CreateItemRequest request, ImportState state) {
+        Set<ConstraintViolation<CreateItemRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            state.failedRows++;
+            for (ConstraintViolation<CreateItemRequest> violation : violations) {
+                state.addError(row, violation.getPropertyPath().toString(), violation.getMessage());
+            }
+            return;
+        }
+        state.batch.add(ItemEntity.builder()
+                .ownerId(state.ownerId)
+                .name(request.name())
+                .description(request.description())
+                .category(request.category())
+                .condition(request.condition())
+                .startingPrice(Money.of(request.startingPrice()))
+                .reservePrice(Money.of(request.reservePrice()))
+                .bidIncrement(Money.of(request.bidIncrement()))
+                .build());
+        if (state.batch.size() >= batchSize) {
+            flush(state);
+        }
+    }
+
+    private void flush(ImportState state) {
+        if (state.batch.isEmpty()) {
+            return;
+        }
+        itemRepository.saveAll(state.batch);
+        entityManager.flush();
+        state.batch.forEach(itemEventProducer::itemCreated);
+        entityManager.clear();
+        state.importedRows += state.batch.size();
+        state.batch.clear();
+    }
+
+    /**
+     * Read one RFC 4180 record, following quoted fields across line breaks.
+     * Returns null at end of input.
+     */
+    private List<String> readCsvRecord(BufferedReader reader) throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (!quoted) {
+                break;
+            }
+            line = reader.readLine();
+            if (line == null) {
+                break;
+            }
+            field.append('\n');
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private String csvValue(List<String> values, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column.toLowerCase(Locale.ROOT));
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private <E extends Enum<E>> E csvEnum(List<String> values, Map<String, Integer> columns, String column, Class<E> type) {
+        String value = csvValue(values, columns, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidFieldException(column, "Unknown " + column + ": " + value);
+        }
+    }
+
+    private BigDecimal csvDecimal(List<String> values, Map<String, Integer> columns, String column) {
+        String value = csvValue(values, columns, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return new BigDecimal(value);
+        } catch (NumberFormatException e) {
+            throw new InvalidFieldException(column, "Not a number: " + value);
+        }
+    }
+
+    /**
+     * Helper: Get current authenticated user ID
+     */
+    private UUID getCurrentUserId() {
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        if (principal instanceof UUID) {
+            return (UUID) principal;
+        }
+        throw new RuntimeException("No authenticated user found");
+    }
+
+    private final class ImportState {
+        private final UUID ownerId;
+        private final List<ItemEntity> batch = new ArrayList<>();
+        private final List<ItemImportResponse.RowError> errors = new ArrayList<>();
+        private int totalRows;
+        private int importedRows;
+        private int failedRows;
+
+        private ImportState(UUID ownerId) {
+            this.ownerId = ownerId;
+        }
+
+        private void reject(long row, String field, String message) {
+            failedRows++;
+            addError(row, field, message);
+        }
+
+        private void addError(long row, String field, String message) {
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new ItemImportResponse.RowError(row, field, message));
+            }
+        }
+    }
+
+    private static final class InvalidFieldException extends RuntimeException {
+        private final String field;
+
+        private InvalidFieldException(String field, String message) {
+            super(message);
+            this.field = field;
+        }
+    }
+}
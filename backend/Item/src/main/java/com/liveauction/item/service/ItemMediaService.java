@@ -0,0 +1,88 @@
+package com.liveauction.item.service;
+
+import com.liveauction.item.dto.response.ItemMediaResponse;
+import com.liveauction.item.entity.ItemEntity;
+import com.liveauction.item.entity.ItemMediaEntity;
+import com.liveauction.item.repository.ItemMediaRepository;
+import com.liveauction.item.repository.ItemRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ItemMediaService {
+
+    private final ItemRepository itemRepository;
+    private final ItemMediaRepository itemMediaRepository;
+    private final MediaStorageService mediaStorage;
+    private final ThumbnailService thumbnailService;
+
+    /**
+     * Upload an image for an item (owner only)
+     * - Verify item exists and current user is the owner
+     * - Store the file content-addressed on the local filesystem
+     * - Save ItemMediaEntity
+     * - Generate the thumbnail in the background if this content has none yet
+     */
+    public ItemMediaResponse uploadMedia(UUID itemId, MultipartFile file) throws IOException {
+        ItemEntity item = itemRepository.findById(itemId)
+                .orElseThrow(() -> new RuntimeException("Item not found"));
+        if (!item.getOwnerId().equals(getCurrentUserId())) {
+            throw new RuntimeException("Unauthorized: Not the item owner");
+        }
+        if (file.isEmpty()) {
+            throw new RuntimeException("Uploaded file is empty");
+        }
+
+        MediaStorageService.StoredMedia stored;
+        try (InputStream in = file.getInputStream()) {
+            stored = mediaStorage.store(in);
+        }
+        boolean thumbnailReady = Files.exists(mediaStorage.thumbnailPath(stored.contentHash()));
+        ItemMediaEntity media = ItemMediaEntity.builder()
+                .itemId(itemId)
+                .contentHash(stored.contentHash())
+                .extension(stored.extension())
+                .sizeBytes(stored.sizeBytes())
+                .thumbnailReady(thumbnailReady)
+                .build();
+        media = itemMediaRepository.save(media);
+        log.info("Stored media {} for item {} ({} bytes)", stored.contentHash(), itemId, stored.sizeBytes());
+
+        if (!thumbnailReady) {
+            thumbnailService.generateThumbnail(stored.contentHash(), stored.extension());
+        }
+        return ItemMediaResponse.fromEntity(media);
+    }
+
+    /**
+     * List the images of an item (anyone can view)
+     */
+    public List<ItemMediaResponse> listMedia(UUID itemId) {
+        return itemMediaRepository.findAllByItemIdOrderByCreatedAtAsc(itemId)
+                .stream()
+                .map(ItemMediaResponse::fromEntity)
+                .toList();
+    }
+
+    /**
+     * Helper: Get current authenticated user ID
+     */
+    private UUID getCurrentUserId() {
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        if (principal instanceof UUID) {
+            return (UUID) principal;
+        }
+        throw new RuntimeException("No authenticated user found");
+    }
+}
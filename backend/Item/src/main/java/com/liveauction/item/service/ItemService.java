@@ -7,13 +7,19 @@ import com.liveauction.item.dto.response.ItemResponseAuctioneer;
 import com.liveauction.item.dto.response.ItemResponsePartial;
 import com.liveauction.item.dto.response.ItemResponsePublic;
 import com.liveauction.item.entity.ItemEntity;
+import com.liveauction.item.event.producer.ItemEventProducer;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import com.liveauction.item.repository.ItemRepository;
+import com.liveauction.shared.money.Money;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
@@ -22,15 +28,18 @@ import org.springframework.transaction.annotation.Transactional;
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Timed(value = "item.service", histogram = true)
 public class ItemService {
     
     private final ItemRepository itemRepository;
+    private final ItemEventProducer itemEventProducer;
 
     /**
      * Create a new item
      * - Get current user ID from SecurityContext
      * - Build ItemEntity with status = APPROVED (V1: skip admin review)
      * - Save to database
+     * - Publish ItemCreatedEvent for the Auction service read model
      * - TODO: Publish ResourceCreatedEvent for Auth Service
      */
     @Transactional
@@ -42,13 +51,14 @@ public class ItemService {
                 .description(request.description())
                 .category(request.category())
                 .condition(request.condition())
-                .startingPrice(request.startingPrice())
-                .reservePrice(request.reservePrice())
-                .bidIncrement(request.bidIncrement())
+                .startingPrice(Money.of(request.startingPrice()))
+                .reservePrice(Money.of(request.reservePrice()))
+                .bidIncrement(Money.of(request.bidIncrement()))
                 .build();
-        log.info("Built the item and now saving item to database");
+        log.debug("Built the item and now saving item to database");
         item = itemRepository.save(item);
         log.info("Item saved with ID: {}", item.getId());
+        itemEventProducer.itemCreated(item);
         return ItemResponse.fromEntity(item);
     }
 
@@ -58,54 +68,58 @@ public class ItemService {
      * - Verify current user is the owner
      * - Verify item status is DRAFT or APPROVED (can't edit if in auction)
      * - Update fields
-     * - Save
+     * - Save (flushed so updatedAt is set before the event goes out)
+     * - Publish ItemUpdatedEvent for the Auction service read model
      */
     @Transactional
     public ItemResponse updateItem(UUID itemId, UpdateItemRequest request) {
         log.info("Updating item: {}", itemId);
-        log.info("Trying to find the item in the database");
+        log.debug("Trying to find the item in the database");
         ItemEntity item = itemRepository.findById(itemId)
                 .orElseThrow(() -> new RuntimeException("Item not found"));
-        log.info("Item found: {}", item.getName());
-        log.info("Checking if the current user is the owner of the item");
+        log.debug("Item found: {}", item.getName());
+        log.debug("Checking if the current user is the owner of the item");
         UUID currentUserId = getCurrentUserId();
         if (!item.getOwnerId().equals(currentUserId)) {
             throw new RuntimeException("Unauthorized: Not the item owner, can not make changes");
         }
-        log.info("Current user is the owner, proceeding with update");
-        log.info("Checking status of item");
+        log.debug("Current user is the owner, proceeding with update");
+        log.debug("Checking status of item");
         if (item.getStatus() != ItemEntity.ItemStatus.DRAFT && item.getStatus() != ItemEntity.ItemStatus.APPROVED) {
             throw new RuntimeException("Item cannot be edited in its current status");
         }
-        log.info("Item status is valid for editing, updating fields");
+        log.debug("Item status is valid for editing, updating fields");
         item.setName(request.name());
         item.setDescription(request.description());
         item.setCategory(request.category());
         item.setCondition(request.condition());
-        item.setStartingPrice(request.startingPrice());
-        item.setReservePrice(request.reservePrice());
-        item.setBidIncrement(request.bidIncrement());
-        log.info("Saving updated item to database");
-        item = itemRepository.save(item);
+        item.setStartingPrice(Money.of(request.startingPrice()));
+        item.setReservePrice(Money.of(request.reservePrice()));
+        item.setBidIncrement(Money.of(request.bidIncrement()));
+        log.debug("Saving updated item to database");
+        item = itemRepository.saveAndFlush(item);
         log.info("Item updated successfully: {}", item.getId());
+        itemEventProducer.itemUpdated(item);
         return ItemResponse.fromEntity(item);
     }
 
     /**
      * List all items owned by current user
+     * - Not read-only, so it runs on the primary and the owner sees an item they just created
      */
+    @Transactional
     public List<ItemResponsePartial> listMyItems() {
-        log.info("Finding current userid");
+        log.debug("Finding current userid");
         UUID userId = getCurrentUserId();
-        log.info("Current user id: {}", userId);
-        log.info("Fetching items for user from database with the userId: " + userId);
+        log.debug("Current user id: {}", userId);
+        log.debug("Fetching items for user from database with the userId: {}", userId);
         List<ItemEntity> items = itemRepository.findAllByOwnerId(userId)
                 .orElse(new ArrayList<>());
-        log.info("Found {} items for user", items.size());
+        log.debug("Found {} items for user", items.size());
         List<ItemResponsePartial> response = items.stream()
                 .map(ItemResponsePartial::fromEntity)
                 .toList();
-        log.info("Mapped items to response DTOs");
+        log.debug("Mapped items to response DTOs");
         return response;
     }
 
@@ -122,6 +136,7 @@ public class ItemService {
         return ItemResponse.fromEntity(item);
     }
 
+    @Transactional(readOnly = true)
     public ItemResponseAuctioneer getItemDetailsForAuctioneers(UUID itemId) {
         ItemEntity item = itemRepository
                 .findById(itemId)
@@ -135,6 +150,7 @@ public class ItemService {
     /**
      * Get public item details (anyone can view APPROVED items)
      */
+    @Transactional(readOnly = true)
     public ItemResponsePublic getPublicItemDetails(UUID itemId) {
         ItemEntity item = itemRepository
                 .findById(itemId)
@@ -145,6 +161,29 @@ public class ItemService {
         return ItemResponsePublic.fromEntity(item);
     }
 
+    /**
+     * Get public details of many items at once (anyone can view APPROVED items)
+     * - One IN query for all ids instead of one lookup per item
+     * - Unknown and non-APPROVED items are left out
+     * - Results follow the order of the requested ids
+     */
+    @Transactional(readOnly = true)
+    public List<ItemResponsePublic> getPublicItemDetailsBatch(List<UUID> itemIds) {
+        List<UUID> distinctIds = itemIds.stream().distinct().toList();
+        Map<UUID, ItemEntity> itemsById = new HashMap<>();
+        for (ItemEntity item : itemRepository.findAllById(distinctIds)) {
+            if (item.getStatus() == ItemEntity.ItemStatus.APPROVED) {
+                itemsById.put(item.getId(), item);
+            }
+        }
+        return distinctIds.stream()
+                .map(itemsById::get)
+                .filter(Objects::nonNull)
+                .map(ItemResponsePublic::fromEntity)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
     public List<ItemResponsePublic> getItemsListedForClaiming() {
         List<ItemEntity> items = itemRepository
                 .findAllByStatusAndOwnerIdNot(
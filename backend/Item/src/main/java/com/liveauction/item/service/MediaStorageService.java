@@ -0,0 +1,129 @@
+package com.liveauction.item.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Service
+@Slf4j
+public class MediaStorageService {
+
+    // <sha-256>[_thumb].<ext>, the only names we ever write or serve
+    private static final Pattern FILE_NAME = Pattern.compile("([0-9a-f]{64})(_thumb)?\\.(jpg|png|gif|webp)");
+
+    @Value("${app.items.media.root:./data/media}")
+    private String mediaRoot;
+
+    private Path root;
+    private Path tmp;
+
+    @PostConstruct
+    void init() throws IOException {
+        root = Path.of(mediaRoot).toAbsolutePath().normalize();
+        tmp = root.resolve("tmp");
+        Files.createDirectories(tmp);
+        log.info("Item media stored under {}", root);
+    }
+
+    /**
+     * Store an upload under its SHA-256 name
+     * - Stream to a temp file while hashing, the content is never held in memory
+     * - Sniff the image type from the file header
+     * - Move into place atomically; identical content is only stored once
+     */
+    public StoredMedia store(InputStream in) throws IOException {
+        Path temp = createTempFile();
+        try {
+            MessageDigest digest = sha256();
+            long size;
+            try (DigestInputStream digestIn = new DigestInputStream(in, digest)) {
+                size = Files.copy(digestIn, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String extension = sniffExtension(temp);
+            if (extension == null) {
+                throw new RuntimeException("Unsupported image type, expected JPEG, PNG, GIF or WebP");
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            Path target = resolve(hash + "." + extension);
+            if (!Files.exists(target)) {
+                Files.createDirectories(target.getParent());
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            }
+            return new StoredMedia(hash, extension, size);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Map a public file name to its location on disk (root/ab/cd/<name>).
+     * Returns null for anything that is not one of our content-addressed names.
+     */
+    public Path resolve(String fileName) {
+        Matcher matcher = FILE_NAME.matcher(fileName);
+        if (!matcher.matches()) {
+            return null;
+        }
+        String hash = matcher.group(1);
+        return root.resolve(hash.substring(0, 2)).resolve(hash.substring(2, 4)).resolve(fileName);
+    }
+
+    public Path thumbnailPath(String contentHash) {
+        return resolve(contentHash + "_thumb.jpg");
+    }
+
+    public Path createTempFile() throws IOException {
+        return Files.createTempFile(tmp, "media-", ".part");
+    }
+
+    private String sniffExtension(Path file) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(12);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (header.hasRemaining() && channel.read(header) > 0) {
+                // keep reading until we have the header or hit EOF
+            }
+        }
+        byte[] b = header.array();
+        if (header.position() >= 3 && (b[0] & 0xFF) == 0xFF && (b[1] & 0xFF) == 0xD8 && (b[2] & 0xFF) == 0xFF) {
+            return "jpg";
+        }
+        if (header.position() >= 8 && (b[0] & 0xFF) == 0x89 && b[1] == 'P' && b[2] == 'N' && b[3] == 'G') {
+            return "png";
+        }
+        if (header.position() >= 6 && b[0] == 'G' && b[1] == 'I' && b[2] == 'F' && b[3] == '8') {
+            return "gif";
+        }
+        if (header.position() >= 12 && b[0] == 'R' && b[1] == 'I' && b[2] == 'F' && b[3] == 'F'
+                && b[8] == 'W' && b[9] == 'E' && b[10] == 'B' && b[11] == 'P') {
+            return "webp";
+        }
+        return null;
+    }
+
+    private MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public record StoredMedia(
+            String contentHash,
+            String extension,
+            long sizeBytes
+    ) {}
+}
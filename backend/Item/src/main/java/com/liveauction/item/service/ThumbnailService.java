@@ -0,0 +1,98 @@
+package com.liveauction.item.service;
+
+import com.liveauction.item.entity.ItemMediaEntity;
+import com.liveauction.item.repository.ItemMediaRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ThumbnailService {
+
+    private final MediaStorageService mediaStorage;
+    private final ItemMediaRepository itemMediaRepository;
+
+    @Value("${app.items.media.thumbnail-size:320}")
+    private int thumbnailSize;
+
+    /**
+     * Register the ImageIO plugins on the application class path (WebP reader).
+     * ImageIO only scans the class loader of the thread that first touches it.
+     */
+    @PostConstruct
+    void registerImageReaders() {
+        ImageIO.scanForPlugins();
+        if (!ImageIO.getImageReadersByFormatName("webp").hasNext()) {
+            log.warn("No WebP image reader registered, WebP uploads will get no thumbnail");
+        }
+    }
+
+    /**
+     * Generate the thumbnail of an uploaded image, once per content hash
+     * - Runs on the thumbnail executor, never on the request thread
+     * - Skips rendering if the thumbnail already exists (same image uploaded before)
+     * - Marks every upload with this content hash as thumbnailReady
+     */
+    @Async("thumbnailExecutor")
+    @Transactional
+    public void generateThumbnail(String contentHash, String extension) {
+        Path thumbnail = mediaStorage.thumbnailPath(contentHash);
+        if (!Files.exists(thumbnail)) {
+            try {
+                render(mediaStorage.resolve(contentHash + "." + extension), thumbnail);
+                log.info("Thumbnail generated for {}", contentHash);
+            } catch (IOException | RuntimeException e) {
+                log.error("Thumbnail generation failed for {}: {}", contentHash, e.getMessage());
+                return;
+            }
+        }
+        List<ItemMediaEntity> uploads = itemMediaRepository.findAllByContentHash(contentHash);
+        uploads.forEach(media -> media.setThumbnailReady(true));
+        itemMediaRepository.saveAll(uploads);
+    }
+
+    private void render(Path source, Path target) throws IOException {
+        BufferedImage image = ImageIO.read(source.toFile());
+        if (image == null) {
+            throw new IOException("No image reader for " + source.getFileName());
+        }
+        double scale = Math.min(1.0, (double) thumbnailSize / Math.max(image.getWidth(), image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setColor(Color.WHITE); // JPEG has no alpha channel
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        Path temp = mediaStorage.createTempFile();
+        try {
+            ImageIO.write(scaled, "jpg", temp.toFile());
+            Files.createDirectories(target.getParent());
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+-- Baseline schema of the Item service, as previously created by Hibernate auto-DDL.
+-- Portable between PostgreSQL and H2; vendor specific indexes live in db/migration/item/{vendor}.
+
+create table items (
+    id             uuid                        not null,
+    name           varchar(200)                not null,
+    description    text,
+    category       varchar(255)                not null check (category in ('COLLECTIBLES', 'ART', 'JEWELRY', 'ELECTRONICS', 'AUTOMOTIVE', 'SPORTS', 'INSTRUMENTS', 'ANTIQUES', 'OTHER')),
+    condition      varchar(255)                not null check (condition in ('NEW', 'LIKE_NEW', 'EXCELLENT', 'GOOD', 'FAIR', 'POOR')),
+    owner_id       uuid                        not null,
+    status         varchar(255)                not null check (status in ('DRAFT', 'PENDING_APPROVAL', 'APPROVED', 'REJECTED', 'CANCELLED')),
+    starting_price numeric(10, 2)              not null,
+    reserve_price  numeric(10, 2),
+    bid_increment  numeric(10, 2)              not null,
+    created_at     timestamp(6) with time zone not null,
+    updated_at     timestamp(6) with time zone not null,
+    constraint pk_items primary key (id)
+);
+
+create table item_media (
+    id              uuid                        not null,
+    item_id         uuid                        not null,
+    content_hash    varchar(64)                 not null,
+    extension       varchar(10)                 not null,
+    size_bytes      bigint                      not null,
+    thumbnail_ready boolean                     not null,
+    created_at      timestamp(6) with time zone not null,
+    updated_at      timestamp(6) with time zone not null,
+    constraint pk_item_media primary key (id)
+);
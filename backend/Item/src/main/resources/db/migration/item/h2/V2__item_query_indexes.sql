@@ -0,0 +1,8 @@
+-- Indexes for the derived queries in ItemRepository and ItemMediaRepository.
+-- H2 has no partial indexes, the PostgreSQL ones are plain indexes here.
+
+create index idx_items_owner on items (owner_id);
+create index idx_items_status_owner on items (status, owner_id);
+
+create index idx_item_media_item_created_at on item_media (item_id, created_at);
+create index idx_item_media_content_hash on item_media (content_hash);
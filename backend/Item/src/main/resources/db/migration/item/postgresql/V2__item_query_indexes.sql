@@ -0,0 +1,13 @@
+-- Indexes for the derived queries in ItemRepository and ItemMediaRepository.
+
+-- findAllByOwnerId
+create index idx_items_owner on items (owner_id);
+-- findAllByStatus, findAllByStatusAndOwnerIdNot
+create index idx_items_status_owner on items (status, owner_id);
+-- findAllByStatusAndOwnerIdNot(APPROVED): the claimable listing only ever reads approved items
+create index idx_items_approved_owner on items (owner_id) where status = 'APPROVED';
+
+-- findAllByItemIdOrderByCreatedAtAsc
+create index idx_item_media_item_created_at on item_media (item_id, created_at);
+-- findAllByContentHash
+create index idx_item_media_content_hash on item_media (content_hash);
@@ -0,0 +1,34 @@
+package com.liveauction.item;
+
+import com.liveauction.item.entity.ItemEntity.ItemStatus;
+import com.liveauction.shared.test.AbstractRepositoryQueryPlanTests;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Repository queries of the Item service must use an index, see AbstractRepositoryQueryPlanTests.
+ * A new repository method needs a matching index in db/migration/item/postgresql.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestcontainersConfiguration.class)
+class RepositoryQueryPlanTests extends AbstractRepositoryQueryPlanTests {
+
+    RepositoryQueryPlanTests() {
+        super("com.liveauction.item", "db/migration/item/postgresql");
+    }
+
+    @Override
+    protected Map<String, List<Object>> arguments() {
+        // Items listed for claiming, idx_items_approved_owner covers APPROVED
+        return Map.of(
+                "ItemRepository.findAllByStatus", List.of(ItemStatus.APPROVED),
+                "ItemRepository.findAllByStatusAndOwnerIdNot", List.of(ItemStatus.APPROVED, UUID.randomUUID())
+        );
+    }
+}
@@ -0,0 +1,50 @@
+plugins {
+    java
+    application
+    id("io.spring.dependency-management") version "1.1.7"
+}
+
+group = "com.liveauction"
+version = "0.0.1-SNAPSHOT"
+description = "LoadGenerator"
+
+java {
+    toolchain {
+        languageVersion = JavaLanguageVersion.of(21)
+    }
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencyManagement {
+    imports {
+        mavenBom("org.springframework.boot:spring-boot-dependencies:3.5.6")
+        mavenBom("org.springframework.cloud:spring-cloud-dependencies:2025.0.0")
+    }
+}
+
+// The services run in-process on the Spring Cloud Stream test binder,
+// so the RabbitMQ binder is kept off the classpath
+configurations.runtimeClasspath {
+    exclude(group = "org.springframework.cloud", module = "spring-cloud-stream-binder-rabbit")
+}
+
+dependencies {
+    implementation(project(":Shared"))
+    implementation(project(":UserAndAuthentication"))
+    implementation(project(":Item"))
+    implementation(project(":Auction"))
+    implementation("org.springframework.boot:spring-boot")
+    implementation("org.springframework.boot:spring-boot-test")
+    implementation("org.springframework.cloud:spring-cloud-stream-test-binder")
+    implementation("com.fasterxml.jackson.core:jackson-databind")
+    implementation("com.fasterxml.jackson.datatype:jackson-datatype-jsr310")
+    implementation("org.hdrhistogram:HdrHistogram:2.2.2")
+}
+
+// Run with: gradle :LoadGenerator:run --args="--rate=200 --duration=30s"
+application {
+    mainClass = "com.liveauction.loadgenerator.LoadGeneratorApplication"
+}
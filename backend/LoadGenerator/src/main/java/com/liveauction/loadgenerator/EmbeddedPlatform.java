@@ -0,0 +1,94 @@
+package com.liveauction.loadgenerator;
+
+import com.liveauction.auction.AuctionApplication;
+import com.liveauction.item.ItemApplication;
+import com.liveauction.userandauthentication.UserAndAuthenticationApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.cloud.stream.binder.test.TestChannelBinderConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boots the auth, item and auction services in this JVM.
+ * - Each service gets its own in-memory H2 database and a random port
+ * - Messaging runs on the Spring Cloud Stream test binder, no broker needed
+ * - Events stay inside the service that sent them, so cross-service
+ *   consumers (the item read model in Auction) are not fed
+ */
+public class EmbeddedPlatform implements AutoCloseable {
+
+    // Base64 encoded HMAC key shared by all services, only used for load runs
+    private static final String JWT_SECRET = "bGl2ZWF1Y3Rpb24tbG9hZC1nZW5lcmF0b3Itc2VjcmV0LWtleS0yNTYtYml0cyE=";
+
+    private final List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+    private final String authBaseUrl;
+    private final String itemBaseUrl;
+    private final String auctionBaseUrl;
+
+    public EmbeddedPlatform() throws Exception {
+        Path mediaRoot = Files.createTempDirectory("loadgen-media");
+        Path liveStateDir = Files.createTempDirectory("loadgen-live-state");
+        authBaseUrl = start(UserAndAuthenticationApplication.class, "auth");
+        itemBaseUrl = start(ItemApplication.class, "item",
+                "--app.items.media.root=" + mediaRoot,
+                "--app.bindings.item.created.routing-key=item.created",
+                "--app.bindings.item.updated.routing-key=item.updated",
+                "--app.bindings.item-event-exchange=itemEventChannel-out-0");
+        auctionBaseUrl = start(AuctionApplication.class, "auction",
+                "--app.services.item.base-url=" + itemBaseUrl,
+                "--app.services.user.base-url=" + authBaseUrl,
+                "--app.live-state.enabled=true",
+                "--app.live-state.dir=" + liveStateDir,
+                "--app.bindings.auction.created.routing-key=auction.created",
+                "--app.bindings.auction-event-exchange=auctionEventChannel-out-0",
+                "--spring.cloud.function.definition=itemCreated;itemUpdated;bidHistoryClosed;auctionCompleted;bidPlaced");
+    }
+
+    private String start(Class<?> application, String name, String... extraArgs) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--management.server.port=0",
+                "--spring.main.banner-mode=off",
+                "--spring.datasource.url=jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=validate",
+                "--spring.cloud.stream.default-binder=" + TestChannelBinderConfiguration.NAME,
+                "--app.jwt.secret=" + JWT_SECRET,
+                "--app.jwt.expiration=3600000",
+                "--logging.level.root=WARN",
+                "--logging.level.com.liveauction=WARN"
+        ));
+        args.addAll(List.of(extraArgs));
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(application, TestChannelBinderConfiguration.class)
+                .run(args.toArray(String[]::new));
+        contexts.add(context);
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        System.out.printf("Started %s service on port %d%n", name, port);
+        return "http://localhost:" + port;
+    }
+
+    public String authBaseUrl() {
+        return authBaseUrl;
+    }
+
+    public String itemBaseUrl() {
+        return itemBaseUrl;
+    }
+
+    public String auctionBaseUrl() {
+        return auctionBaseUrl;
+    }
+
+    @Override
+    public void close() {
+        for (int i = contexts.size() - 1; i >= 0; i--) {
+            contexts.get(i).close();
+        }
+    }
+}
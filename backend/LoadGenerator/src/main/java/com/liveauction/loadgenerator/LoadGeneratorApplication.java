@@ -0,0 +1,197 @@
+package com.liveauction.loadgenerator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Simulates an auction going live against the real controllers, on one box.
+ * - Boots auth, item and auction services in-process (H2, test binder)
+ * - Setup: sellers and auctioneers sign up and log in, sellers create items,
+ *   auctioneers claim them, sellers approve, auctioneers create auctions
+ * - Onboarding: bidders sign up and log in at an open-model arrival rate
+ * - Live: a burst of public reads on the auctions and items plus bidder
+ *   logins, at an open-model arrival rate
+ * - Prints HDR latency percentiles per operation
+ *
+ * Bids are placed over WebSocket on the Go bidding engine, which learns about
+ * auctions through RabbitMQ, so the live phase models bidding traffic with the
+ * reads that bidders make around each bid.
+ *
+ * Options: --rate=200 --duration=30s --auctions=5 --bidders=100 --onboarding-rate=20
+ */
+public class LoadGeneratorApplication {
+
+    private static final String PASSWORD = "load-test-password";
+
+    private final PlatformClient client = new PlatformClient();
+    private final OpenModelDriver driver = new OpenModelDriver();
+    private final AtomicInteger userCounter = new AtomicInteger();
+    private final ExecutorService journeys = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final EmbeddedPlatform platform;
+    private final List<UUID> auctionIds = new ArrayList<>();
+    private final List<UUID> itemIds = new ArrayList<>();
+    private final List<String> bidderEmails = new ArrayList<>();
+    private final List<String> bidderTokens = new ArrayList<>();
+
+    private LoadGeneratorApplication(EmbeddedPlatform platform) {
+        this.platform = platform;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        double rate = Double.parseDouble(options.getOrDefault("rate", "200"));
+        Duration duration = Duration.parse("PT" + options.getOrDefault("duration", "30s").toUpperCase());
+        int auctions = Integer.parseInt(options.getOrDefault("auctions", "5"));
+        int bidders = Integer.parseInt(options.getOrDefault("bidders", "100"));
+        double onboardingRate = Double.parseDouble(options.getOrDefault("onboarding-rate", "20"));
+
+        try (EmbeddedPlatform platform = new EmbeddedPlatform()) {
+            LoadGeneratorApplication generator = new LoadGeneratorApplication(platform);
+            generator.setUpAuctions(auctions);
+            generator.onboardBidders(bidders, onboardingRate);
+            generator.goLive(rate, duration);
+            generator.driver.report();
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Seller and auctioneer journeys, one auction at a time
+     */
+    private void setUpAuctions(int count) throws Exception {
+        System.out.printf("Setting up %d auctions%n", count);
+        for (int i = 0; i < count; i++) {
+            String sellerToken = signUpAndLogIn("seller", "@sellers.test");
+            String auctioneerToken = signUpAndLogIn("auctioneer", "@auctioneerdomain.com");
+
+            JsonNode item = client.call("POST", platform.itemBaseUrl() + "/api/v1/items", sellerToken, Map.of(
+                    "name", "Load test item " + i,
+                    "description", "Item created by the load generator",
+                    "category", "COLLECTIBLES",
+                    "condition", "GOOD",
+                    "startingPrice", new BigDecimal("10.00"),
+                    "bidIncrement", new BigDecimal("1.00")
+            ));
+            UUID itemId = UUID.fromString(item.path("id").asText());
+            UUID ownerId = UUID.fromString(item.path("ownerId").asText());
+
+            JsonNode claim = client.call("POST", platform.auctionBaseUrl() + "/api/v1/auctions/claim", auctioneerToken, Map.of(
+                    "itemId", itemId,
+                    "itemOwnerId", ownerId,
+                    "auctioneerMessage", "Load test claim"
+            ));
+            String claimId = claim.path("claimId").asText();
+
+            client.call("PUT", platform.auctionBaseUrl() + "/api/v1/auctions/claims/" + claimId + "/review", sellerToken,
+                    Map.of("approve", true, "sellerMessage", "Approved by the load generator"));
+
+            Instant start = Instant.now().plus(1, ChronoUnit.MINUTES);
+            JsonNode auction = client.call("POST", platform.auctionBaseUrl() + "/api/v1/auctions/claims/" + claimId + "/create-auction",
+                    auctioneerToken, Map.of(
+                            "title", "Load test auction " + i,
+                            "startingPrice", new BigDecimal("10.00"),
+                            "bidIncrement", new BigDecimal("1.00"),
+                            "startTime", start,
+                            "endTime", start.plus(4, ChronoUnit.HOURS)
+                    ));
+            itemIds.add(itemId);
+            auctionIds.add(UUID.fromString(auction.path("auctionId").asText()));
+        }
+    }
+
+    /**
+     * Bidders arrive, sign up and log in
+     */
+    private void onboardBidders(int count, double rate) {
+        Duration duration = Duration.ofMillis((long) (count / rate * 1000));
+        driver.run("onboarding", rate, duration, List.of(
+                new OpenModelDriver.Operation("signup+login", 1, this::signUpAndLogInBidder)
+        ));
+    }
+
+    /**
+     * The auctions are live: bidders and browsers hammer the public reads
+     */
+    private void goLive(double rate, Duration duration) {
+        if (bidderTokens.isEmpty()) {
+            throw new IllegalStateException("No bidder could log in, see the onboarding errors");
+        }
+        String auctionUrl = platform.auctionBaseUrl() + "/api/v1/auctions/";
+        String itemUrl = platform.itemBaseUrl() + "/api/v1/items/";
+        driver.run("live", rate, duration, List.of(
+                new OpenModelDriver.Operation("GET auction public", 35,
+                        () -> client.send("GET", auctionUrl + any(auctionIds) + "/public", null, null)),
+                new OpenModelDriver.Operation("GET auction page", 15,
+                        () -> client.send("GET", auctionUrl + any(auctionIds) + "/page", null, null)),
+                new OpenModelDriver.Operation("GET item public", 15,
+                        () -> client.send("GET", itemUrl + any(itemIds), null, null)),
+                new OpenModelDriver.Operation("POST items batch", 10,
+                        () -> client.send("POST", itemUrl + "batch", null, Map.of("itemIds", itemIds))),
+                new OpenModelDriver.Operation("GET auctions by status", 10,
+                        () -> client.send("GET", auctionUrl + "by-status/SCHEDULED", null, null)),
+                new OpenModelDriver.Operation("GET users me", 10,
+                        () -> client.send("GET", platform.authBaseUrl() + "/api/v1/users/me", any(bidderTokens), null)),
+                new OpenModelDriver.Operation("POST login", 5,
+                        () -> client.send("POST", platform.authBaseUrl() + "/api/v1/authentication/login", null,
+                                Map.of("email", any(bidderEmails), "password", PASSWORD)))
+        ));
+    }
+
+    private CompletableFuture<Integer> signUpAndLogInBidder() {
+        String username = "bidder" + userCounter.incrementAndGet();
+        String email = username + "@bidders.test";
+        String authUrl = platform.authBaseUrl() + "/api/v1/authentication/";
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                client.call("POST", authUrl + "register", null, Map.of("username", username, "email", email, "password", PASSWORD));
+                String token = client.call("POST", authUrl + "login", null, Map.of("email", email, "password", PASSWORD))
+                        .path("token").asText();
+                synchronized (this) {
+                    bidderEmails.add(email);
+                    bidderTokens.add(token);
+                }
+                return 200;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }, journeys);
+    }
+
+    private String signUpAndLogIn(String prefix, String domain) throws Exception {
+        String username = prefix + userCounter.incrementAndGet();
+        String email = username + domain;
+        String authUrl = platform.authBaseUrl() + "/api/v1/authentication/";
+        client.call("POST", authUrl + "register", null, Map.of("username", username, "email", email, "password", PASSWORD));
+        return client.call("POST", authUrl + "login", null, Map.of("email", email, "password", PASSWORD))
+                .path("token").asText();
+    }
+
+    private synchronized <T> T any(List<T> values) {
+        return values.get(ThreadLocalRandom.current().nextInt(values.size()));
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+        }
+        return options;
+    }
+}
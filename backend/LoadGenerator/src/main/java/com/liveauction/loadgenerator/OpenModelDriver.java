@@ -0,0 +1,96 @@
+package com.liveauction.loadgenerator;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Open-model load driver.
+ * - Arrivals follow a Poisson process at a fixed rate, independent of how
+ *   fast the system answers (a slow server does not slow the arrivals down)
+ * - Latency is measured from the intended send time, so queueing delay on
+ *   the client side is not hidden (no coordinated omission)
+ * - One HDR histogram per operation
+ */
+public class OpenModelDriver {
+
+    public record Operation(String name, int weight, Supplier<CompletableFuture<Integer>> call) {}
+
+    private static final long MAX_LATENCY_NANOS = TimeUnit.SECONDS.toNanos(60);
+
+    private final Map<String, Histogram> histograms = new LinkedHashMap<>();
+    private final Map<String, AtomicLong> errors = new ConcurrentHashMap<>();
+
+    public void run(String phase, double ratePerSecond, Duration duration, List<Operation> operations) {
+        int totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+        for (Operation operation : operations) {
+            histograms.computeIfAbsent(operation.name(), name -> new ConcurrentHistogram(MAX_LATENCY_NANOS, 3));
+            errors.computeIfAbsent(operation.name(), name -> new AtomicLong());
+        }
+        System.out.printf("Phase %s: %.0f req/s for %ds%n", phase, ratePerSecond, duration.toSeconds());
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double meanGapNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        long intended = start;
+        List<CompletableFuture<?>> inFlight = new ArrayList<>();
+        while (intended < end) {
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            Operation operation = pick(operations, random.nextInt(totalWeight));
+            long intendedStart = intended;
+            inFlight.add(operation.call().get().handle((status, failure) -> {
+                histograms.get(operation.name()).recordValue(Math.min(System.nanoTime() - intendedStart, MAX_LATENCY_NANOS));
+                if (failure != null || status / 100 != 2) {
+                    errors.get(operation.name()).incrementAndGet();
+                }
+                return null;
+            }));
+            intended += (long) (-Math.log(1 - random.nextDouble()) * meanGapNanos);
+        }
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private Operation pick(List<Operation> operations, int ticket) {
+        for (Operation operation : operations) {
+            ticket -= operation.weight();
+            if (ticket < 0) {
+                return operation;
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+
+    public void report() {
+        System.out.printf("%n%-28s %8s %7s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        histograms.forEach((name, histogram) -> System.out.printf("%-28s %8d %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name,
+                histogram.getTotalCount(),
+                errors.get(name).get(),
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue())));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
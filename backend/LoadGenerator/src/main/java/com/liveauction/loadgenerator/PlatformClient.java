@@ -0,0 +1,63 @@
+package com.liveauction.loadgenerator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+/**
+ * Thin JSON client over java.net.http used by the user journeys.
+ */
+public class PlatformClient {
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    /**
+     * Send a request and wait for the response, failing on any non 2xx status.
+     * Returns the "data" node of the ApiResponse envelope.
+     */
+    public JsonNode call(String method, String url, String token, Object body) throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request(method, url, token, body), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException(method + " " + url + " returned " + response.statusCode() + ": " + response.body());
+        }
+        return objectMapper.readTree(response.body()).path("data");
+    }
+
+    /**
+     * Send a request without waiting, completes with the HTTP status code.
+     */
+    public CompletableFuture<Integer> send(String method, String url, String token, Object body) {
+        try {
+            return httpClient.sendAsync(request(method, url, token, body), HttpResponse.BodyHandlers.discarding())
+                    .thenApply(HttpResponse::statusCode);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private HttpRequest request(String method, String url, String token, Object body) throws IOException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(10))
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        HttpRequest.BodyPublisher publisher = body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        return builder.method(method, publisher).build();
+    }
+}
@@ -1,5 +1,6 @@
 plugins {
     java
+    `java-test-fixtures`
     id("org.springframework.boot") version "3.5.6"
     id("io.spring.dependency-management") version "1.1.7"
 }
@@ -26,9 +27,25 @@ repositories {
 
 dependencies {
     implementation("org.springframework.boot:spring-boot-starter-validation")
+    compileOnly("org.springframework:spring-webmvc")
+    compileOnly("jakarta.servlet:jakarta.servlet-api")
+    compileOnly("org.aspectj:aspectjweaver")
+    compileOnly("ch.qos.logback:logback-classic")
+    compileOnly("org.springframework:spring-jdbc")
+    compileOnly("com.zaxxer:HikariCP")
+    compileOnly("io.micrometer:micrometer-core")
+    compileOnly("org.hibernate.orm:hibernate-core")
+    compileOnly("com.fasterxml.jackson.core:jackson-databind")
     compileOnly("org.projectlombok:lombok")
     annotationProcessor("org.projectlombok:lombok")
     testImplementation("org.springframework.boot:spring-boot-starter-test")
+    testImplementation("com.fasterxml.jackson.core:jackson-databind")
+
+    // AbstractRepositoryQueryPlanTests, used by the services' RepositoryQueryPlanTests
+    testFixturesImplementation("org.springframework.boot:spring-boot-starter-test")
+    testFixturesImplementation("org.springframework.data:spring-data-jpa")
+    testFixturesImplementation("org.springframework:spring-jdbc")
+    testFixturesImplementation("jakarta.persistence:jakarta.persistence-api")
     testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
 
@@ -0,0 +1,111 @@
+package com.liveauction.shared.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read-only target for LazyConnectionDataSourceProxy.
+ * - Hands out replica connections while the replica is within the lag tolerance
+ * - Falls back to the primary when the replica lags too far or cannot be reached
+ * - Lag is polled in the background with lagQuery, which returns the replica delay
+ *   in seconds (null or no rows means caught up); a blank query disables polling
+ */
+@Slf4j
+public class ReplicaDataSource extends AbstractDataSource implements InitializingBean, DisposableBean {
+
+    // Time since the last replayed commit only means lag while WAL is still waiting to be
+    // replayed; with everything replayed the replica is caught up however idle the primary is
+    public static final String POSTGRES_LAG_QUERY =
+            "SELECT CASE WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+                    + " ELSE EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp())) END";
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final Duration maxLag;
+    private final String lagQuery;
+    private final Duration checkInterval;
+
+    private volatile boolean replicaUsable = true;
+    private volatile double lastLagSeconds;
+    private ScheduledExecutorService lagChecker;
+
+    public ReplicaDataSource(DataSource primary, DataSource replica, Duration maxLag, String lagQuery, Duration checkInterval) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLag = maxLag;
+        this.lagQuery = lagQuery;
+        this.checkInterval = checkInterval;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return (replicaUsable ? replica : primary).getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return (replicaUsable ? replica : primary).getConnection(username, password);
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    public double getLastLagSeconds() {
+        return lastLagSeconds;
+    }
+
+    /**
+     * Measure replica lag and switch reads to or from the primary
+     */
+    public void checkLag() {
+        boolean usable;
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            double lag = resultSet.next() ? resultSet.getDouble(1) : 0;
+            lastLagSeconds = Math.max(0, lag);
+            usable = lastLagSeconds * 1000 <= maxLag.toMillis();
+        } catch (SQLException e) {
+            log.warn("Replica lag check failed, reading from primary: {}", e.getMessage());
+            usable = false;
+        }
+        if (usable != replicaUsable) {
+            log.warn("Replica {} (lag {}s, tolerance {})", usable ? "back in rotation" : "taken out of rotation",
+                    lastLagSeconds, maxLag);
+        }
+        replicaUsable = usable;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (lagQuery == null || lagQuery.isBlank()) {
+            return;
+        }
+        lagChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        lagChecker.scheduleWithFixedDelay(this::checkLag, 0, checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void destroy() {
+        if (lagChecker != null) {
+            lagChecker.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.liveauction.shared.events.AuctionEvents;
+
+import com.liveauction.shared.money.Money;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Published by the bidding engine when a room closes, with every accepted bid in order.
+ */
+public record AuctionBidHistoryEvent(
+        String auctionId,
+        List<Bid> bids
+) {
+    public record Bid(
+            String bidderId,
+            Money amount,
+            Instant placedAt
+    ) {
+    }
+}
@@ -0,0 +1,16 @@
+package com.liveauction.shared.events.AuctionEvents;
+
+import com.liveauction.shared.money.Money;
+
+import java.time.Instant;
+
+/**
+ * Published by the bidding engine for every accepted bid.
+ */
+public record AuctionBidPlacedEvent(
+        String auctionId,
+        String bidderId,
+        Money amount,
+        Instant placedAt
+) {
+}
@@ -0,0 +1,14 @@
+package com.liveauction.shared.events.AuctionEvents;
+
+import com.liveauction.shared.money.Money;
+
+/**
+ * Published by the bidding engine when a room closes.
+ * winnerId is "-1" when nobody bid; winningBidAmount is then the starting price.
+ */
+public record AuctionCompletedEvent(
+        String auctionId,
+        String winnerId,
+        Money winningBidAmount
+) {
+}
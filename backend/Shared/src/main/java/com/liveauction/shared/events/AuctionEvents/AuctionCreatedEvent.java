@@ -1,14 +1,16 @@
 package com.liveauction.shared.events.AuctionEvents;
 
+import com.liveauction.shared.money.Money;
+
 import java.time.Instant;
 
 public record AuctionCreatedEvent(
         String auctionId,
         String itemId,
         String auctioneerId,
-        Double startingBid,
-        Double reserveBid,
-        Double bidIncrement,
+        Money startingBid,
+        Money reserveBid,
+        Money bidIncrement,
         Instant startTime,
         Instant endTime
 ) {
@@ -0,0 +1,18 @@
+package com.liveauction.shared.events.ItemEvents;
+
+import com.liveauction.shared.money.Money;
+
+import java.time.Instant;
+
+public record ItemUpdatedEvent(
+        String itemId,
+        String ownerId,
+        String name,
+        String category,
+        String condition,
+        String status,
+        Money startingPrice,
+        Money bidIncrement,
+        Instant updatedAt
+) {
+}
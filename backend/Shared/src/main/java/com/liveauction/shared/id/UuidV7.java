@@ -0,0 +1,58 @@
+package com.liveauction.shared.id;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered UUIDs (RFC 9562 version 7).
+ * - 48 bit Unix millisecond timestamp, then a 12 bit counter, then 62 random bits
+ * - The counter keeps ids generated in the same millisecond increasing; when it
+ *   overflows the timestamp moves one millisecond ahead
+ * - Ids sort by creation time both as PostgreSQL uuid and as bytes, so inserts
+ *   append to the right edge of the primary key index
+ */
+public final class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    // Last issued (millis << 12 | counter)
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID next() {
+        long now = System.currentTimeMillis();
+        long last;
+        long next;
+        do {
+            last = LAST.get();
+            next = Math.max(now << 12, last + 1);
+        } while (!LAST.compareAndSet(last, next));
+
+        long millis = next >>> 12;
+        long counter = next & 0xFFF;
+        long msb = (millis << 16) | 0x7000L | counter;
+        long lsb = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * Smallest version 7 id that can be issued at the given instant, for range queries on id
+     */
+    public static UUID lowerBound(Instant instant) {
+        return new UUID((instant.toEpochMilli() << 16) | 0x7000L, 0x8000000000000000L);
+    }
+
+    /**
+     * Creation time encoded in a version 7 id
+     */
+    public static Instant timestamp(UUID uuid) {
+        if (uuid.version() != 7) {
+            throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+        }
+        return Instant.ofEpochMilli(uuid.getMostSignificantBits() >>> 16);
+    }
+}
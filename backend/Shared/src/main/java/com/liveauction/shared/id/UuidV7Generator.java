@@ -0,0 +1,18 @@
+package com.liveauction.shared.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.uuid.UuidValueGenerator;
+
+import java.util.UUID;
+
+/**
+ * Hibernate id algorithm issuing {@link UuidV7} ids, used as
+ * {@code @UuidGenerator(algorithm = UuidV7Generator.class)}
+ */
+public class UuidV7Generator implements UuidValueGenerator {
+
+    @Override
+    public UUID generateUuid(SharedSessionContractImplementor session) {
+        return UuidV7.next();
+    }
+}
@@ -0,0 +1,30 @@
+package com.liveauction.shared.jfr;
+
+import jdk.jfr.*;
+
+@Name("com.liveauction.ControllerInvocation")
+@Label("Controller Invocation")
+@Description("A request handled by a REST controller")
+@Category({"LiveAuction", "HTTP"})
+@Threshold("20 ms")
+@StackTrace(false)
+public class ControllerInvocationEvent extends Event {
+
+    @Label("Handler")
+    public String handler;
+
+    @Label("HTTP Method")
+    public String httpMethod;
+
+    @Label("Path Pattern")
+    public String pathPattern;
+
+    @Label("Status")
+    public int status;
+
+    @Label("Auction Id")
+    public String auctionId;
+
+    @Label("Item Id")
+    public String itemId;
+}
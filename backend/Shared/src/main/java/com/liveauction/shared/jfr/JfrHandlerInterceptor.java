@@ -0,0 +1,53 @@
+package com.liveauction.shared.jfr;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+/**
+ * Emits a ControllerInvocationEvent per handled request.
+ * Register it from the WebMvcConfigurer of each service.
+ * - The event is only begun when JFR has it enabled, so it costs nothing
+ *   when no recording is running
+ * - Fields are only filled in when the request went over the threshold
+ */
+public class JfrHandlerInterceptor implements HandlerInterceptor {
+
+    private static final String EVENT_ATTRIBUTE = JfrHandlerInterceptor.class.getName() + ".event";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ControllerInvocationEvent event = new ControllerInvocationEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            request.setAttribute(EVENT_ATTRIBUTE, event);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!(request.getAttribute(EVENT_ATTRIBUTE) instanceof ControllerInvocationEvent event)) {
+            return;
+        }
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.handler = handler instanceof HandlerMethod method
+                ? method.getBeanType().getSimpleName() + "." + method.getMethod().getName()
+                : String.valueOf(handler);
+        event.httpMethod = request.getMethod();
+        event.pathPattern = String.valueOf(request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE));
+        event.status = response.getStatus();
+        if (request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE) instanceof Map<?, ?> variables) {
+            event.auctionId = (String) variables.get("auctionId");
+            event.itemId = (String) variables.get("itemId");
+        }
+        event.commit();
+    }
+}
@@ -0,0 +1,18 @@
+package com.liveauction.shared.jfr;
+
+import jdk.jfr.*;
+
+@Name("com.liveauction.JwtVerification")
+@Label("JWT Verification")
+@Description("Parsing and verifying a bearer token in a JWT filter")
+@Category({"LiveAuction", "Security"})
+@Threshold("5 ms")
+@StackTrace(false)
+public class JwtVerificationEvent extends Event {
+
+    @Label("User Id")
+    public String userId;
+
+    @Label("Success")
+    public boolean success;
+}
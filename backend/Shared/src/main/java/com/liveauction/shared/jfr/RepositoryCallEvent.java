@@ -0,0 +1,27 @@
+package com.liveauction.shared.jfr;
+
+import jdk.jfr.*;
+
+@Name("com.liveauction.RepositoryCall")
+@Label("Repository Call")
+@Description("A call into a Spring Data repository")
+@Category({"LiveAuction", "Database"})
+@Threshold("10 ms")
+@StackTrace(false)
+public class RepositoryCallEvent extends Event {
+
+    @Label("Repository")
+    public String repository;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Auction Id")
+    public String auctionId;
+
+    @Label("Item Id")
+    public String itemId;
+
+    @Label("Failed")
+    public boolean failed;
+}
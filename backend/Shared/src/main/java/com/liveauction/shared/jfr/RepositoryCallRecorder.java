@@ -0,0 +1,62 @@
+package com.liveauction.shared.jfr;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+
+import java.util.UUID;
+
+/**
+ * Wraps a repository call in a RepositoryCallEvent.
+ * Used from the repository aspect of each service.
+ * - Auction and item ids are taken from arguments named auctionId / itemId;
+ *   a plain "id" argument is the entity id of the repository (idKind)
+ */
+public final class RepositoryCallRecorder {
+
+    public static final String AUCTION = "auction";
+    public static final String ITEM = "item";
+
+    private RepositoryCallRecorder() {
+    }
+
+    public static Object record(ProceedingJoinPoint joinPoint, String repository, String idKind) throws Throwable {
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        if (!event.isEnabled()) {
+            return joinPoint.proceed();
+        }
+        event.begin();
+        boolean failed = true;
+        try {
+            Object result = joinPoint.proceed();
+            failed = false;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.repository = repository;
+                event.method = joinPoint.getSignature().getName();
+                event.failed = failed;
+                fillIds(event, (MethodSignature) joinPoint.getSignature(), joinPoint.getArgs(), idKind);
+                event.commit();
+            }
+        }
+    }
+
+    private static void fillIds(RepositoryCallEvent event, MethodSignature signature, Object[] args, String idKind) {
+        String[] names = signature.getParameterNames();
+        if (names == null) {
+            return;
+        }
+        for (int i = 0; i < names.length && i < args.length; i++) {
+            if (!(args[i] instanceof UUID id)) {
+                continue;
+            }
+            String name = names[i];
+            if (name.equals("auctionId") || (name.equals("id") && AUCTION.equals(idKind))) {
+                event.auctionId = id.toString();
+            } else if (name.equals("itemId") || (name.equals("id") && ITEM.equals(idKind))) {
+                event.itemId = id.toString();
+            }
+        }
+    }
+}
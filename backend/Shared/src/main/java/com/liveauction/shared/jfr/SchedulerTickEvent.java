@@ -0,0 +1,23 @@
+package com.liveauction.shared.jfr;
+
+import jdk.jfr.*;
+
+@Name("com.liveauction.SchedulerTick")
+@Label("Scheduler Tick")
+@Description("One run of a scheduled job")
+@Category({"LiveAuction", "Scheduler"})
+@Threshold("0 ms")
+@StackTrace(false)
+public class SchedulerTickEvent extends Event {
+
+    @Label("Job")
+    public String job;
+
+    @Label("Due")
+    @Description("Entities found due on this run")
+    public int due;
+
+    @Label("First Auction Id")
+    @Description("First auction transitioned on this run, if any")
+    public String firstAuctionId;
+}
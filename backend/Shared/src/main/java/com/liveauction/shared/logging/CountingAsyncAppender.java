@@ -0,0 +1,35 @@
+package com.liveauction.shared.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AsyncAppender that counts the events it does not deliver.
+ * - Events discarded below the discarding threshold (TRACE/DEBUG/INFO by default)
+ * - Events rejected because the queue is full and neverBlock is set
+ * The count is approximate, the queue is read without locking.
+ * Logback instantiates appenders outside the Spring context, so the count is
+ * exposed statically and bound to the meter registry by each service.
+ */
+public class CountingAsyncAppender extends AsyncAppender {
+
+    private static final LongAdder DROPPED = new LongAdder();
+
+    public static long droppedEvents() {
+        return DROPPED.sum();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (isStarted()) {
+            int remaining = getRemainingCapacity();
+            if ((remaining < getDiscardingThreshold() && isDiscardable(event))
+                    || (remaining == 0 && isNeverBlock())) {
+                DROPPED.increment();
+            }
+        }
+        super.append(event);
+    }
+}
@@ -0,0 +1,86 @@
+package com.liveauction.shared.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps 1 in N INFO/DEBUG events for configured hot-path loggers.
+ * - Configured with one sample entry per logger prefix, e.g.
+ *   {@code <sample>com.liveauction.auction.service.AuctionService=10</sample>}
+ * - The longest matching prefix wins, a rate of 1 disables sampling
+ * - WARN and ERROR always pass
+ * - Runs before the event is created, so a dropped event costs one counter increment
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private static final Sampler UNSAMPLED = new Sampler(1);
+
+    private final Map<String, Integer> rates = new LinkedHashMap<>();
+    private final Map<String, Sampler> samplers = new ConcurrentHashMap<>();
+
+    /**
+     * Joran adder for {@code <sample>prefix=rate</sample>}
+     */
+    public void addSample(String sample) {
+        int separator = sample.lastIndexOf('=');
+        if (separator <= 0) {
+            addError("Invalid sample '" + sample + "', expected <logger prefix>=<rate>");
+            return;
+        }
+        try {
+            int rate = Integer.parseInt(sample.substring(separator + 1).trim());
+            if (rate < 1) {
+                throw new NumberFormatException("rate must be at least 1");
+            }
+            rates.put(sample.substring(0, separator).trim(), rate);
+        } catch (NumberFormatException e) {
+            addError("Invalid sample rate in '" + sample + "': " + e.getMessage());
+        }
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // isXxxEnabled() guards arrive without a format and must not consume a sample
+        if (format == null || level.levelInt > Level.INFO_INT || !level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+        Sampler sampler = samplers.computeIfAbsent(logger.getName(), this::resolve);
+        if (sampler == UNSAMPLED || sampler.keep()) {
+            return FilterReply.NEUTRAL;
+        }
+        return FilterReply.DENY;
+    }
+
+    private Sampler resolve(String loggerName) {
+        String match = null;
+        for (String prefix : rates.keySet()) {
+            boolean matches = loggerName.equals(prefix) || loggerName.startsWith(prefix + ".");
+            if (matches && (match == null || prefix.length() > match.length())) {
+                match = prefix;
+            }
+        }
+        int rate = match == null ? 1 : rates.get(match);
+        return rate == 1 ? UNSAMPLED : new Sampler(rate);
+    }
+
+    private static final class Sampler {
+        private final int rate;
+        private final AtomicLong counter = new AtomicLong();
+
+        private Sampler(int rate) {
+            this.rate = rate;
+        }
+
+        private boolean keep() {
+            return counter.getAndIncrement() % rate == 0;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.liveauction.shared.money;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * An amount of money in cents.
+ * - Comparisons and arithmetic are plain long operations, nothing is allocated
+ *   beyond the result
+ * - JSON is a number with two decimals (12.50), same as the BigDecimal amounts before
+ * - Stored in the existing numeric(10, 2) columns through {@link MoneyConverter}
+ * Amounts with more than two decimals are rejected, except when read from JSON,
+ * where the sender may have used a float and the value is rounded half-up.
+ */
+@JsonSerialize(using = MoneyJson.Serializer.class)
+@JsonDeserialize(using = MoneyJson.Deserializer.class)
+public record Money(long cents) implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0);
+
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    /**
+     * Exact conversion, null stays null
+     */
+    public static Money of(BigDecimal amount) {
+        if (amount == null) {
+            return null;
+        }
+        try {
+            return ofCents(amount.setScale(2, RoundingMode.UNNECESSARY).unscaledValue().longValueExact());
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Not a valid amount of money: " + amount.toPlainString(), e);
+        }
+    }
+
+    public static Money of(String amount) {
+        return of(new BigDecimal(amount));
+    }
+
+    /**
+     * Nearest cent, half-up; for amounts that went through a float
+     */
+    static Money rounded(BigDecimal amount) {
+        return ofCents(amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public Money minus(Money other) {
+        return ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    public boolean isGreaterThan(Money other) {
+        return cents > other.cents;
+    }
+
+    public boolean isAtLeast(Money other) {
+        return cents >= other.cents;
+    }
+
+    public boolean isPositive() {
+        return cents > 0;
+    }
+
+    /**
+     * this / other as a double, for ratios such as hammer price over starting price
+     */
+    public double ratioTo(Money other) {
+        return (double) cents / other.cents;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    /**
+     * Plain decimal with two places, e.g. 12.50 or -0.05
+     */
+    @Override
+    public String toString() {
+        long abs = Math.abs(cents);
+        long fraction = abs % 100;
+        return (cents < 0 ? "-" : "") + abs / 100 + (fraction < 10 ? ".0" : ".") + fraction;
+    }
+}
@@ -0,0 +1,25 @@
+package com.liveauction.shared.money;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+/**
+ * Maps {@link Money} to numeric(10, 2) columns. Apply per attribute with
+ * {@code @Convert(converter = MoneyConverter.class)}; the services' entity scans
+ * do not cover this package.
+ */
+@Converter
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money money) {
+        return money == null ? null : money.toBigDecimal();
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal column) {
+        return column == null ? null : Money.rounded(column);
+    }
+}
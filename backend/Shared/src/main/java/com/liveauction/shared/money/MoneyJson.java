@@ -0,0 +1,62 @@
+package com.liveauction.shared.money;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * Jackson mapping of {@link Money}, registered on the type itself so every
+ * ObjectMapper (REST, stream bindings, archive payloads) picks it up.
+ */
+public final class MoneyJson {
+
+    private MoneyJson() {
+    }
+
+    public static final class Serializer extends StdScalarSerializer<Money> {
+
+        public Serializer() {
+            super(Money.class);
+        }
+
+        @Override
+        public void serialize(Money value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+            generator.writeNumber(value.toString());
+        }
+    }
+
+    /**
+     * Accepts a JSON number or numeric string. Float senders such as the
+     * bidding engine are rounded to the nearest cent.
+     */
+    public static final class Deserializer extends StdScalarDeserializer<Money> {
+
+        public Deserializer() {
+            super(Money.class);
+        }
+
+        @Override
+        public Money deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            JsonToken token = parser.currentToken();
+            if (token == JsonToken.VALUE_NUMBER_INT || token == JsonToken.VALUE_NUMBER_FLOAT) {
+                return Money.rounded(parser.getDecimalValue());
+            }
+            if (token == JsonToken.VALUE_STRING) {
+                String text = parser.getText().trim();
+                try {
+                    return text.isEmpty() ? null : Money.rounded(new BigDecimal(text));
+                } catch (NumberFormatException e) {
+                    return (Money) context.handleWeirdStringValue(Money.class, text, "not a valid amount of money");
+                }
+            }
+            return (Money) context.handleUnexpectedToken(Money.class, parser);
+        }
+    }
+}
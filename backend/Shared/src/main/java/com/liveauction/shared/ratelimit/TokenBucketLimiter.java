@@ -0,0 +1,65 @@
+package com.liveauction.shared.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket keyed per caller, implemented as GCRA.
+ * - Each key holds one AtomicLong, its theoretical arrival time in nanos
+ * - A request is admitted with a single CAS; there is no refill thread
+ * - The map is a ConcurrentHashMap, so contention is striped across its bins
+ * - Idle keys (bucket full again) can be evicted with {@link #evictIdle()}
+ */
+public class TokenBucketLimiter<K> {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final ConcurrentHashMap<K, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * @param capacity     tokens available in a burst
+     * @param refillPeriod time to regain one token
+     */
+    public TokenBucketLimiter(int capacity, Duration refillPeriod) {
+        if (capacity < 1 || refillPeriod.isNegative() || refillPeriod.isZero()) {
+            throw new IllegalArgumentException("Token bucket needs a capacity >= 1 and a positive refill period");
+        }
+        this.emissionIntervalNanos = refillPeriod.toNanos();
+        this.burstToleranceNanos = emissionIntervalNanos * (capacity - 1);
+    }
+
+    /**
+     * Take one token for the key.
+     * Returns 0 when admitted, otherwise the nanos until a token is available.
+     */
+    public long tryAcquire(K key) {
+        long now = System.nanoTime();
+        AtomicLong bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+        while (true) {
+            long tat = bucket.get();
+            long start = tat - now > 0 ? tat : now;
+            long wait = start - now - burstToleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(tat, start + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Drop keys whose bucket has fully refilled.
+     * A request racing with the removal may be admitted against a fresh bucket,
+     * which is at most one extra token.
+     */
+    public void evictIdle() {
+        long now = System.nanoTime();
+        buckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+}
@@ -0,0 +1,142 @@
+package com.liveauction.shared.sketch;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Heavy hitters over an exponentially decayed stream.
+ * - Weights go into a count-min sketch, so memory is fixed however many keys are seen
+ * - The k keys with the highest estimate are kept in a min-heap; a key enters when
+ *   its estimate beats the smallest candidate
+ * - Decay is forward decay against a landmark: an event at t adds
+ *   weight * 2^((t - landmark) / halfLife), and scores are scaled back to "now" when read.
+ *   Everything is rescaled onto a new landmark before the factors get large.
+ * All methods are synchronized; callers are event consumers and a refresh job.
+ */
+public class DecayingTopK<K> {
+
+    // Rescale once the landmark factor passes 2^RESCALE_EXPONENT
+    private static final double RESCALE_EXPONENT = 32;
+
+    private final int k;
+    private final int width;
+    private final double[][] counts;
+    private final long[] seeds;
+    private final double halfLifeNanos;
+
+    private final Map<K, Candidate<K>> candidates = new HashMap<>();
+    private final PriorityQueue<Candidate<K>> heap = new PriorityQueue<>(Comparator.comparingDouble(c -> c.score));
+    private long landmarkNanos = System.nanoTime();
+
+    private static final class Candidate<K> {
+        private final K key;
+        private double score; // Forward decayed, relative to the landmark
+
+        private Candidate(K key, double score) {
+            this.key = key;
+            this.score = score;
+        }
+    }
+
+    /**
+     * @param k        number of heavy hitters to track
+     * @param width    counters per sketch row, bounds the overestimate to about total / width
+     * @param depth    sketch rows, failure probability is about e^-depth
+     * @param halfLife time for a weight to count half as much
+     */
+    public DecayingTopK(int k, int width, int depth, Duration halfLife) {
+        if (k < 1 || width < 1 || depth < 1 || halfLife.isNegative() || halfLife.isZero()) {
+            throw new IllegalArgumentException("Top-K needs positive k, width, depth and half-life");
+        }
+        this.k = k;
+        this.width = width;
+        this.counts = new double[depth][width];
+        this.seeds = new long[depth];
+        SplittableRandom random = new SplittableRandom(0x5DEECE66DL);
+        for (int i = 0; i < depth; i++) {
+            seeds[i] = random.nextLong();
+        }
+        this.halfLifeNanos = halfLife.toNanos();
+    }
+
+    public synchronized void add(K key, double weight) {
+        long now = System.nanoTime();
+        double exponent = (now - landmarkNanos) / halfLifeNanos;
+        if (exponent > RESCALE_EXPONENT) {
+            rescale(now, Math.pow(2, -exponent));
+            exponent = 0;
+        }
+        double decayedWeight = weight * Math.pow(2, exponent);
+
+        int hash = key.hashCode();
+        double estimate = Double.MAX_VALUE;
+        for (int row = 0; row < counts.length; row++) {
+            int column = column(hash, row);
+            counts[row][column] += decayedWeight;
+            estimate = Math.min(estimate, counts[row][column]);
+        }
+
+        Candidate<K> candidate = candidates.get(key);
+        if (candidate != null) {
+            heap.remove(candidate);
+            candidate.score = estimate;
+            heap.add(candidate);
+        } else if (candidates.size() < k) {
+            insert(key, estimate);
+        } else if (heap.peek().score < estimate) {
+            candidates.remove(heap.poll().key);
+            insert(key, estimate);
+        }
+    }
+
+    /**
+     * Stop tracking a key, e.g. once it can no longer trend. Its sketch counts
+     * remain and decay, so it can re-enter only by being hot again.
+     */
+    public synchronized void remove(K key) {
+        Candidate<K> candidate = candidates.remove(key);
+        if (candidate != null) {
+            heap.remove(candidate);
+        }
+    }
+
+    /**
+     * Tracked keys with their decayed score as of now, highest first.
+     */
+    public synchronized List<Map.Entry<K, Double>> top() {
+        double scale = Math.pow(2, -(System.nanoTime() - landmarkNanos) / halfLifeNanos);
+        List<Map.Entry<K, Double>> top = new ArrayList<>(candidates.size());
+        for (Candidate<K> candidate : candidates.values()) {
+            top.add(Map.entry(candidate.key, candidate.score * scale));
+        }
+        top.sort(Map.Entry.<K, Double>comparingByValue().reversed());
+        return top;
+    }
+
+    private void insert(K key, double score) {
+        Candidate<K> candidate = new Candidate<>(key, score);
+        candidates.put(key, candidate);
+        heap.add(candidate);
+    }
+
+    private void rescale(long now, double factor) {
+        for (double[] row : counts) {
+            for (int i = 0; i < row.length; i++) {
+                row[i] *= factor;
+            }
+        }
+        for (Candidate<K> candidate : candidates.values()) {
+            candidate.score *= factor;
+        }
+        landmarkNanos = now;
+    }
+
+    private int column(int hash, int row) {
+        // MurmurHash3 fmix64 of the key hash mixed with a per-row seed
+        long h = hash ^ seeds[row];
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return (int) Long.remainderUnsigned(h, width);
+    }
+}
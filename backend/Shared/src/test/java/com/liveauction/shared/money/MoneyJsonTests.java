@@ -0,0 +1,58 @@
+package com.liveauction.shared.money;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyJsonTests {
+
+    record Bid(Money amount) {
+    }
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    void writesANumberWithTwoDecimals() throws Exception {
+        assertThat(mapper.writeValueAsString(new Bid(Money.ofCents(1250)))).isEqualTo("{\"amount\":12.50}");
+        assertThat(mapper.writeValueAsString(new Bid(Money.ofCents(-5)))).isEqualTo("{\"amount\":-0.05}");
+        assertThat(mapper.writeValueAsString(new Bid(null))).isEqualTo("{\"amount\":null}");
+    }
+
+    @Test
+    void roundTripsThroughJson() throws Exception {
+        for (long cents : new long[]{0, 7, -5, 1250, 10011, 99_999_999_99L}) {
+            Bid bid = new Bid(Money.ofCents(cents));
+            assertThat(mapper.readValue(mapper.writeValueAsString(bid), Bid.class)).isEqualTo(bid);
+        }
+    }
+
+    @Test
+    void readsNumbers() throws Exception {
+        assertThat(read("12")).isEqualTo(Money.ofCents(1200));
+        assertThat(read("12.5")).isEqualTo(Money.ofCents(1250));
+        // Float senders are rounded half-up to the cent
+        assertThat(read("100.105")).isEqualTo(Money.ofCents(10011));
+        assertThat(read("100.30000000000001")).isEqualTo(Money.ofCents(10030));
+    }
+
+    @Test
+    void readsNumericStrings() throws Exception {
+        assertThat(read("\"12.50\"")).isEqualTo(Money.ofCents(1250));
+        assertThat(read("\" 7 \"")).isEqualTo(Money.ofCents(700));
+        assertThat(read("\"100.105\"")).isEqualTo(Money.ofCents(10011));
+        assertThat(read("\"\"")).isNull();
+        assertThat(read("null")).isNull();
+    }
+
+    @Test
+    void rejectsNonNumericStrings() {
+        assertThatThrownBy(() -> read("\"twelve\"")).isInstanceOf(InvalidFormatException.class);
+    }
+
+    private Money read(String amount) throws Exception {
+        return mapper.readValue("{\"amount\":" + amount + "}", Bid.class).amount();
+    }
+}
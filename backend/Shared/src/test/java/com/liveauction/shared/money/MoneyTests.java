@@ -0,0 +1,55 @@
+package com.liveauction.shared.money;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTests {
+
+    @Test
+    void ofIsExact() {
+        assertThat(Money.of("12.5").cents()).isEqualTo(1250);
+        assertThat(Money.of("100.100").cents()).isEqualTo(10010);
+        assertThat(Money.of(new BigDecimal("-0.05")).cents()).isEqualTo(-5);
+        assertThat(Money.of((BigDecimal) null)).isNull();
+    }
+
+    @Test
+    void ofRejectsSubCentAmounts() {
+        assertThatThrownBy(() -> Money.of("100.105")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Money.of(new BigDecimal("0.001"))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void ofRejectsAmountsBeyondLongCents() {
+        assertThatThrownBy(() -> Money.of("92233720368547758.08")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void roundedRoundsHalfUp() {
+        assertThat(Money.rounded(new BigDecimal("100.105")).cents()).isEqualTo(10011);
+        assertThat(Money.rounded(new BigDecimal("100.1049")).cents()).isEqualTo(10010);
+        assertThat(Money.rounded(new BigDecimal("-100.105")).cents()).isEqualTo(-10011);
+        // 100.1 + 0.2 as a double
+        assertThat(Money.rounded(new BigDecimal(100.1 + 0.2)).cents()).isEqualTo(10030);
+    }
+
+    @Test
+    void toStringHasTwoDecimals() {
+        assertThat(Money.ofCents(-5)).hasToString("-0.05");
+        assertThat(Money.ofCents(7)).hasToString("0.07");
+        assertThat(Money.ofCents(1250)).hasToString("12.50");
+        assertThat(Money.ofCents(-1230)).hasToString("-12.30");
+        assertThat(Money.ZERO).hasToString("0.00");
+    }
+
+    @Test
+    void arithmeticFailsOnOverflow() {
+        assertThat(Money.ofCents(1050).plus(Money.ofCents(-1050))).isSameAs(Money.ZERO);
+        assertThatThrownBy(() -> Money.ofCents(Long.MAX_VALUE).plus(Money.ofCents(1)))
+                .isInstanceOf(ArithmeticException.class);
+    }
+}
@@ -0,0 +1,168 @@
+package com.liveauction.shared.test;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.repository.Repository;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import jakarta.persistence.EntityManager;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.Instant;
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Every query method declared on a repository must be served by an index.
+ * - Runs the Flyway schema on PostgreSQL with sequential scans disabled
+ * - Calls each declared repository method with sample arguments, or with the
+ *   arguments from arguments() for methods filtering on an enum
+ * - Fails if any table was read with a sequential scan in the meantime,
+ *   using this transaction's pg_stat_xact_user_tables counters
+ * Subclasses carry the @DataJpaTest setup of their module and name its
+ * repository package and PostgreSQL migration location.
+ */
+public abstract class AbstractRepositoryQueryPlanTests {
+
+    private final String repositoryPackage;
+    private final String migrationLocation;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    protected AbstractRepositoryQueryPlanTests(String repositoryPackage, String migrationLocation) {
+        this.repositoryPackage = repositoryPackage;
+        this.migrationLocation = migrationLocation;
+    }
+
+    /**
+     * Arguments by "Repository.method", for methods whose predicate value decides
+     * which index applies, e.g. the status a partial index covers. Pass the values
+     * the application calls the method with.
+     */
+    protected Map<String, List<Object>> arguments() {
+        return Map.of();
+    }
+
+    @Test
+    void everyRepositoryQueryUsesAnIndex() throws Exception {
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        List<String> sequentialScans = new ArrayList<>();
+        int checked = 0;
+
+        for (Object repository : context.getBeansOfType(Repository.class).values()) {
+            for (Class<?> type : AopProxyUtils.proxiedUserInterfaces(repository)) {
+                if (!type.getPackageName().startsWith(repositoryPackage)) {
+                    continue;
+                }
+                for (Method method : type.getDeclaredMethods()) {
+                    if (method.isDefault() || Modifier.isStatic(method.getModifiers())) {
+                        continue;
+                    }
+                    Map<String, Long> before = sequentialScanCounts();
+                    invoke(repository, type.getSimpleName() + "." + method.getName(), method);
+                    entityManager.flush();
+                    Map<String, Long> after = sequentialScanCounts();
+                    after.forEach((table, scans) -> {
+                        if (scans > before.getOrDefault(table, 0L)) {
+                            sequentialScans.add(type.getSimpleName() + "." + method.getName() + " scans " + table);
+                        }
+                    });
+                    checked++;
+                }
+            }
+        }
+
+        assertThat(checked).isPositive();
+        assertThat(sequentialScans)
+                .as("Repository queries without a usable index, add one to " + migrationLocation)
+                .isEmpty();
+    }
+
+    private Map<String, Long> sequentialScanCounts() {
+        Map<String, Long> counts = new HashMap<>();
+        jdbcTemplate.query("SELECT relname, seq_scan FROM pg_stat_xact_user_tables WHERE relname <> 'flyway_schema_history'",
+                row -> {
+                    counts.put(row.getString(1), row.getLong(2));
+                });
+        return counts;
+    }
+
+    private void invoke(Object repository, String name, Method method) throws Exception {
+        List<Object> given = arguments().get(name);
+        Object[] args;
+        if (given != null) {
+            if (given.size() != method.getParameterCount()) {
+                throw new AssertionError("arguments() for " + name + " has " + given.size()
+                        + " values, the method takes " + method.getParameterCount());
+            }
+            args = given.toArray();
+        } else {
+            Type[] parameterTypes = method.getGenericParameterTypes();
+            args = new Object[parameterTypes.length];
+            for (int i = 0; i < parameterTypes.length; i++) {
+                args[i] = sample(parameterTypes[i], name);
+            }
+        }
+        try {
+            method.invoke(repository, args);
+        } catch (InvocationTargetException e) {
+            throw new AssertionError("Could not run " + method, e.getCause());
+        }
+    }
+
+    private Object sample(Type genericType, String name) {
+        if (genericType instanceof ParameterizedType parameterized
+                && Collection.class.isAssignableFrom((Class<?>) parameterized.getRawType())) {
+            return List.of(sample(parameterized.getActualTypeArguments()[0], name));
+        }
+        if (!(genericType instanceof Class<?> type)) {
+            throw new AssertionError("No sample value for " + genericType + " in " + name + ", add one to AbstractRepositoryQueryPlanTests");
+        }
+        if (type.isEnum()) {
+            // Any constant would do for the query, but only the real one exercises a partial index
+            throw new AssertionError(name + " filters on " + type.getSimpleName()
+                    + ", add the values it is called with to arguments()");
+        }
+        if (type == UUID.class) {
+            return UUID.randomUUID();
+        }
+        if (type == String.class) {
+            return "sample";
+        }
+        if (type == Instant.class) {
+            return Instant.now();
+        }
+        if (type == int.class || type == Integer.class) {
+            return 1;
+        }
+        if (type == long.class || type == Long.class) {
+            return 1L;
+        }
+        if (type == double.class || type == Double.class) {
+            return 1.0;
+        }
+        if (type == Pageable.class) {
+            return PageRequest.of(0, 20);
+        }
+        if (type == Limit.class) {
+            return Limit.of(20);
+        }
+        throw new AssertionError("No sample value for " + type.getName() + " in " + name + ", add one to AbstractRepositoryQueryPlanTests");
+    }
+}
@@ -2,10 +2,12 @@ package com.liveauction.userandauthentication;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.PropertySource;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
 @SpringBootApplication
 @EnableJpaAuditing
+@PropertySource("classpath:userandauthentication-defaults.properties")
 public class UserAndAuthenticationApplication {
 
     public static void main(String[] args) {
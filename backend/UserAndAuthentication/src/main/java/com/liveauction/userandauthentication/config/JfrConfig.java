@@ -0,0 +1,19 @@
+package com.liveauction.userandauthentication.config;
+
+import com.liveauction.shared.jfr.JfrHandlerInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Flight Recorder events for controller invocations.
+ * Record with -XX:StartFlightRecording, the events are enabled by default.
+ */
+@Configuration
+public class JfrConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new JfrHandlerInterceptor());
+    }
+}
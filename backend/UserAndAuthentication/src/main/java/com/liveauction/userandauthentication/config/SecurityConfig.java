@@ -38,6 +38,9 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         // Public endpoints (no authentication required)
                         .requestMatchers("/api/v1/authentication/**").permitAll()
+                        .requestMatchers("/api/v1/users/*/public").permitAll()
+                        // Only reachable on management.server.port
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                         // All endpoints other than that require authentication
                         .anyRequest().authenticated()
                 )
@@ -2,11 +2,14 @@ package com.liveauction.userandauthentication.controller;
 
 import com.liveauction.shared.dto.response.ApiResponse;
 import com.liveauction.userandauthentication.dto.response.UserResponse;
+import com.liveauction.userandauthentication.dto.response.UserResponsePublic;
 import com.liveauction.userandauthentication.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.UUID;
+
 @RestController
 @RequestMapping("/api/v1/users")
 @RequiredArgsConstructor
@@ -24,4 +27,15 @@ public class UserController {
         ApiResponse<UserResponse> apiResponse = new ApiResponse<>(true, "User profile fetched successfully", response);
         return ResponseEntity.ok(apiResponse);
     }
+
+    /**
+     * GET /api/v1/users/{userId}/public
+     * Get a user's public profile (anyone can view)
+     */
+    @GetMapping("/{userId}/public")
+    public ResponseEntity<ApiResponse<UserResponsePublic>> getPublicProfile(@PathVariable UUID userId) {
+        UserResponsePublic response = userService.getPublicProfile(userId);
+        ApiResponse<UserResponsePublic> apiResponse = new ApiResponse<>(true, "Public user profile fetched successfully", response);
+        return ResponseEntity.ok(apiResponse);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.liveauction.userandauthentication.dto.response;
+
+import com.liveauction.userandauthentication.entity.UserEntity;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public record UserResponsePublic(
+        UUID id,
+        String username,
+        BigDecimal auctioneerRating
+) {
+    public static UserResponsePublic fromEntity(UserEntity user) {
+        return new UserResponsePublic(
+                user.getId(),
+                user.getUsername(),
+                user.getAuctioneerRating()
+        );
+    }
+}
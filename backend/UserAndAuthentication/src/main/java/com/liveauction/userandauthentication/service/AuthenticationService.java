@@ -8,6 +8,7 @@ import com.liveauction.userandauthentication.entity.RoleEntity;
 import com.liveauction.userandauthentication.entity.UserEntity;
 import com.liveauction.userandauthentication.repository.RoleRepository;
 import com.liveauction.userandauthentication.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -25,6 +26,7 @@ import java.util.Set;
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Timed(value = "auth.service", histogram = true)
 public class AuthenticationService {
 
     private final UserRepository userRepository;
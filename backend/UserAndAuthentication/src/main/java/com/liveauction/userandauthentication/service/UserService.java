@@ -1,6 +1,7 @@
 package com.liveauction.userandauthentication.service;
 
 import com.liveauction.userandauthentication.dto.response.UserResponse;
+import com.liveauction.userandauthentication.dto.response.UserResponsePublic;
 import com.liveauction.userandauthentication.entity.UserEntity;
 import com.liveauction.userandauthentication.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -27,6 +28,15 @@ public class UserService {
         return UserResponse.fromEntity(currentUser);
     }
 
+    /**
+     * Get the public profile of any user (no email, status or roles)
+     */
+    public UserResponsePublic getPublicProfile(UUID userId) {
+        UserEntity user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        return UserResponsePublic.fromEntity(user);
+    }
+
     /**
      * Helper method to get current authenticated user
      */
@@ -0,0 +1,52 @@
+-- Baseline schema of the User and Authentication service, as previously created by Hibernate auto-DDL.
+-- Portable between PostgreSQL and H2; vendor specific indexes live in db/migration/userandauthentication/{vendor}.
+
+create table permissions (
+    id          uuid                        not null,
+    name        varchar(100)                not null,
+    description varchar(255),
+    created_at  timestamp(6) with time zone not null,
+    updated_at  timestamp(6) with time zone not null,
+    constraint pk_permissions primary key (id),
+    constraint uk_permissions_name unique (name)
+);
+
+create table roles (
+    id          uuid                        not null,
+    name        varchar(50)                 not null,
+    description varchar(255),
+    created_at  timestamp(6) with time zone not null,
+    updated_at  timestamp(6) with time zone not null,
+    constraint pk_roles primary key (id),
+    constraint uk_roles_name unique (name)
+);
+
+create table users (
+    id                uuid                        not null,
+    username          varchar(50)                 not null,
+    email             varchar(100)                not null,
+    password          varchar(255)                not null,
+    status            varchar(255)                not null check (status in ('ACTIVE', 'UNVERIFIED', 'SUSPENDED')),
+    auctioneer_rating numeric(3, 2),
+    created_at        timestamp(6) with time zone not null,
+    updated_at        timestamp(6) with time zone not null,
+    constraint pk_users primary key (id),
+    constraint uk_users_username unique (username),
+    constraint uk_users_email unique (email)
+);
+
+create table role_permissions (
+    role_id       uuid not null,
+    permission_id uuid not null,
+    constraint pk_role_permissions primary key (permission_id, role_id),
+    constraint fk_role_permissions_role foreign key (role_id) references roles (id),
+    constraint fk_role_permissions_permission foreign key (permission_id) references permissions (id)
+);
+
+create table user_roles (
+    user_id uuid not null,
+    role_id uuid not null,
+    constraint pk_user_roles primary key (role_id, user_id),
+    constraint fk_user_roles_user foreign key (user_id) references users (id),
+    constraint fk_user_roles_role foreign key (role_id) references roles (id)
+);
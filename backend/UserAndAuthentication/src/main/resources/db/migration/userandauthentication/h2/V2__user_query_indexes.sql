@@ -0,0 +1,6 @@
+-- findByEmail, findByUsername, findByName and the exists checks are served by the unique constraints.
+-- The join tables are keyed (role_id, user_id) and (permission_id, role_id); eager loading of
+-- a user's roles and a role's permissions looks them up by the other column.
+
+create index idx_user_roles_user on user_roles (user_id);
+create index idx_role_permissions_role on role_permissions (role_id);
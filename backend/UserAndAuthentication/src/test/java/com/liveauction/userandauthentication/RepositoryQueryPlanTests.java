@@ -0,0 +1,20 @@
+package com.liveauction.userandauthentication;
+
+import com.liveauction.shared.test.AbstractRepositoryQueryPlanTests;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Repository queries of the user service must use an index, see AbstractRepositoryQueryPlanTests.
+ * A new repository method needs a matching index in db/migration/userandauthentication/postgresql.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TestcontainersConfiguration.class)
+class RepositoryQueryPlanTests extends AbstractRepositoryQueryPlanTests {
+
+    RepositoryQueryPlanTests() {
+        super("com.liveauction.userandauthentication", "db/migration/userandauthentication/postgresql");
+    }
+}
@@ -3,4 +3,6 @@ include("Shared")
 include("UserAndAuthentication")
 include("Item")
 include("Auction")
-include("Notifications")
\ No newline at end of file
+include("Notifications")
+include("Benchmarks")
+include("LoadGenerator")
\ No newline at end of file